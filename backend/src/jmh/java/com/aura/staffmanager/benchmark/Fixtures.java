@@ -0,0 +1,89 @@
+package com.aura.staffmanager.benchmark;
+
+import com.aura.staffmanager.entity.Department;
+import com.aura.staffmanager.entity.Employee;
+import com.aura.staffmanager.entity.EmployeeStatus;
+import com.aura.staffmanager.entity.LeaveRequest;
+import com.aura.staffmanager.entity.LeaveStatus;
+import com.aura.staffmanager.entity.LeaveType;
+import com.aura.staffmanager.entity.Role;
+import com.aura.staffmanager.entity.Salary;
+import com.aura.staffmanager.entity.SalaryStatus;
+import com.aura.staffmanager.entity.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * Detached entities shaped like the ones the services map on every request.
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    public static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail("user" + id + "@example.com");
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z6MpC4jTH5aVZ6dxYHhS1P7i");
+        user.setFirstName("First" + id);
+        user.setLastName("Last" + id);
+        user.setRole(Role.EMPLOYEE);
+        return user;
+    }
+
+    public static Employee employee(long id) {
+        Department department = Department.builder()
+                .id(id % 20)
+                .name("Department " + id % 20)
+                .description("Benchmark department")
+                .build();
+
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setFirstName("First" + id);
+        employee.setLastName("Last" + id);
+        employee.setEmail("employee" + id + "@example.com");
+        employee.setPhone("+1 555 010 " + id);
+        employee.setDepartment(department);
+        employee.setPosition("Engineer");
+        employee.setHireDate(LocalDate.of(2015, 1, 1).plusDays(id % 3000));
+        employee.setSalary(50_000d + id % 50_000);
+        employee.setAddress(id + " Main Street, Springfield");
+        employee.setStatus(EmployeeStatus.ACTIVE);
+        employee.setUser(user(id));
+        return employee;
+    }
+
+    public static LeaveRequest leaveRequest(long id) {
+        LeaveRequest leaveRequest = new LeaveRequest();
+        leaveRequest.setId(id);
+        leaveRequest.setEmployee(employee(id));
+        leaveRequest.setStartDate(LocalDate.of(2024, 6, 3));
+        leaveRequest.setEndDate(LocalDate.of(2024, 6, 14));
+        leaveRequest.setType(LeaveType.VACATION);
+        leaveRequest.setStatus(LeaveStatus.APPROVED);
+        leaveRequest.setReason("Summer holiday\nManager Comments: enjoy");
+        leaveRequest.setCreatedAt(LocalDateTime.of(2024, 5, 2, 9, 30));
+        leaveRequest.setUpdatedAt(LocalDateTime.of(2024, 5, 3, 14, 0));
+        return leaveRequest;
+    }
+
+    public static Salary salary(long id) {
+        Salary salary = new Salary();
+        salary.setId(id);
+        salary.setEmployee(employee(id));
+        salary.setBaseSalary(new BigDecimal("4250.00"));
+        salary.setBonus(new BigDecimal("310.50"));
+        salary.setDeductions(new BigDecimal("812.25"));
+        salary.setMonth(YearMonth.of(2024, 6));
+        salary.setYear(2024);
+        salary.setStatus(SalaryStatus.PENDING);
+        salary.setComments("Monthly payroll");
+        salary.calculateNetSalary();
+        return salary;
+    }
+}
@@ -0,0 +1,76 @@
+package com.aura.staffmanager.dto.employee;
+
+import com.aura.staffmanager.benchmark.Fixtures;
+import com.aura.staffmanager.entity.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of a {@code GET /api/employees} body, with an object mapper configured the
+ * way Spring Boot configures the one used by the message converters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeResponseSerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<EmployeeResponse> employees;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, EmployeeResponse.class));
+
+        employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(toResponse(Fixtures.employee(i)));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws Exception {
+        return writer.writeValueAsBytes(employees);
+    }
+
+    private static EmployeeResponse toResponse(Employee employee) {
+        return EmployeeResponse.builder()
+                .id(employee.getId())
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .email(employee.getEmail())
+                .phone(employee.getPhone())
+                .departmentId(employee.getDepartment().getId())
+                .departmentName(employee.getDepartment().getName())
+                .position(employee.getPosition())
+                .hireDate(employee.getHireDate())
+                .salary(employee.getSalary())
+                .address(employee.getAddress())
+                .status(employee.getStatus())
+                .userId(employee.getUser().getId())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.aura.staffmanager.entity;
+
+import com.aura.staffmanager.benchmark.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SalaryBenchmark {
+
+    private Salary salary;
+
+    @Setup
+    public void setUp() {
+        salary = Fixtures.salary(42);
+    }
+
+    @Benchmark
+    public BigDecimal calculateNetSalary() {
+        salary.calculateNetSalary();
+        return salary.getNetSalary();
+    }
+}
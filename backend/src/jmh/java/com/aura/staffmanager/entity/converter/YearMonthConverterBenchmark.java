@@ -0,0 +1,41 @@
+package com.aura.staffmanager.entity.converter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs once per salary row read or written through Hibernate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class YearMonthConverterBenchmark {
+
+    private final YearMonthConverter converter = new YearMonthConverter();
+    private final YearMonth month = YearMonth.of(2024, 6);
+    private final LocalDate date = LocalDate.of(2024, 6, 1);
+
+    @Benchmark
+    public LocalDate convertToDatabaseColumn() {
+        return converter.convertToDatabaseColumn(month);
+    }
+
+    @Benchmark
+    public YearMonth convertToEntityAttribute() {
+        return converter.convertToEntityAttribute(date);
+    }
+}
@@ -0,0 +1,71 @@
+package com.aura.staffmanager.security;
+
+import com.aura.staffmanager.benchmark.Fixtures;
+import com.aura.staffmanager.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue on login and token checks on every authenticated request. {@code validateToken}
+ * is the steady state (verified-token cache hit); {@code getUsernameFromToken} always verifies
+ * the HMAC signature and shows the cost of a cache miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = newTokenProvider();
+        User user = Fixtures.user(1);
+        authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        token = tokenProvider.generateToken(authentication);
+        tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return tokenProvider.getUsernameFromToken(token);
+    }
+
+    static JwtTokenProvider newTokenProvider() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret",
+                "benchmark-secret-key-that-is-long-enough-for-hmac-sha-256");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(tokenProvider, "cacheMaxSize", 10_000L);
+        tokenProvider.init();
+        return tokenProvider;
+    }
+}
@@ -0,0 +1,55 @@
+package com.aura.staffmanager.service;
+
+import com.aura.staffmanager.benchmark.Fixtures;
+import com.aura.staffmanager.dto.employee.EmployeeResponse;
+import com.aura.staffmanager.dto.leave.LeaveRequestResponse;
+import com.aura.staffmanager.entity.Employee;
+import com.aura.staffmanager.entity.LeaveRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping done once per row of every listing. The mappers don't touch
+ * their service's collaborators, so the services are built without them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private EmployeeService employeeService;
+    private LeaveRequestService leaveRequestService;
+    private Employee employee;
+    private LeaveRequest leaveRequest;
+
+    @Setup
+    public void setUp() {
+        employeeService = new EmployeeService(null, null, null, null, null);
+        leaveRequestService = new LeaveRequestService(null, null, null, null);
+        employee = Fixtures.employee(42);
+        leaveRequest = Fixtures.leaveRequest(42);
+    }
+
+    @Benchmark
+    public EmployeeResponse employeeMapToResponse() {
+        return employeeService.mapToResponse(employee);
+    }
+
+    @Benchmark
+    public LeaveRequestResponse leaveRequestMapToResponse() {
+        return leaveRequestService.mapToResponse(leaveRequest);
+    }
+}
@@ -0,0 +1,40 @@
+package com.aura.staffmanager.service.impl;
+
+import com.aura.staffmanager.benchmark.Fixtures;
+import com.aura.staffmanager.dto.SalaryDTO;
+import com.aura.staffmanager.entity.Salary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SalaryMappingBenchmark {
+
+    private SalaryServiceImpl salaryService;
+    private Salary salary;
+
+    @Setup
+    public void setUp() {
+        salaryService = new SalaryServiceImpl(null, null, null);
+        salary = Fixtures.salary(42);
+    }
+
+    @Benchmark
+    public SalaryDTO convertToDTO() {
+        return salaryService.convertToDTO(salary);
+    }
+}
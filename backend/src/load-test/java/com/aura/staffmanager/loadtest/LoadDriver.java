@@ -0,0 +1,107 @@
+package com.aura.staffmanager.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-model load: a fixed number of workers, each sending the next request as soon as the
+ * previous one completes. Latencies are recorded only during the measurement window, after
+ * warmup has let the JIT, pools and caches settle.
+ */
+final class LoadDriver {
+
+    private final HttpClient client;
+    private final Session session;
+    private final List<Scenario> scenarios;
+    private final LoadTestOptions options;
+    private final int[] cumulativeWeights;
+    private final Histogram[] latencies;
+    private final LongAdder[] errors;
+
+    private volatile boolean measuring;
+    private volatile boolean stopped;
+
+    LoadDriver(HttpClient client, Session session, List<Scenario> scenarios, LoadTestOptions options) {
+        this.client = client;
+        this.session = session;
+        this.scenarios = scenarios;
+        this.options = options;
+        this.cumulativeWeights = new int[scenarios.size()];
+        this.latencies = new Histogram[scenarios.size()];
+        this.errors = new LongAdder[scenarios.size()];
+        int total = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            total += scenarios.get(i).weight;
+            cumulativeWeights[i] = total;
+            latencies[i] = new ConcurrentHistogram(3);
+            errors[i] = new LongAdder();
+        }
+    }
+
+    LoadReport run() throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency);
+        for (int i = 0; i < options.concurrency; i++) {
+            Random random = new Random(options.seed + i);
+            workers.execute(() -> work(random));
+        }
+
+        System.out.printf("Warming up for %s with %d workers, mix '%s'%n",
+                options.warmup, options.concurrency, options.mix);
+        Thread.sleep(options.warmup.toMillis());
+        System.out.printf("Measuring for %s%n", options.duration);
+        long start = System.nanoTime();
+        measuring = true;
+        Thread.sleep(options.duration.toMillis());
+        measuring = false;
+        long elapsedNanos = System.nanoTime() - start;
+        stopped = true;
+
+        workers.shutdown();
+        workers.awaitTermination(2, TimeUnit.MINUTES);
+        return new LoadReport(options, scenarios, latencies, errors, elapsedNanos);
+    }
+
+    private void work(Random random) {
+        while (!stopped) {
+            int index = pick(random);
+            HttpRequest request = scenarios.get(index).newRequest(session, random);
+            long start = System.nanoTime();
+            boolean failed;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                failed = response.statusCode() >= 400;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                failed = true;
+            }
+            if (measuring) {
+                latencies[index].recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+                if (failed) {
+                    errors[index].increment();
+                }
+            }
+        }
+    }
+
+    private int pick(Random random) {
+        int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+}
@@ -0,0 +1,121 @@
+package com.aura.staffmanager.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput and latency percentiles per scenario and overall, printed as a table and
+ * optionally written as JSON so runs of different releases can be diffed.
+ */
+final class LoadReport {
+
+    private final LoadTestOptions options;
+    private final List<Map<String, Object>> rows = new ArrayList<>();
+
+    LoadReport(LoadTestOptions options, List<Scenario> scenarios, Histogram[] latencies, LongAdder[] errors,
+               long elapsedNanos) {
+        this.options = options;
+        double seconds = elapsedNanos / 1e9;
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            rows.add(row(scenarios.get(i).name, latencies[i], errors[i].sum(), seconds));
+            total.add(latencies[i]);
+            totalErrors += errors[i].sum();
+        }
+        rows.add(row("TOTAL", total, totalErrors, seconds));
+    }
+
+    private static Map<String, Object> row(String name, Histogram histogram, long errors, double seconds) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("scenario", name);
+        row.put("requests", histogram.getTotalCount());
+        row.put("errors", errors);
+        row.put("throughputPerSecond", round(histogram.getTotalCount() / seconds));
+        row.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+        row.put("p90Ms", millis(histogram.getValueAtPercentile(90)));
+        row.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+        row.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+        row.put("maxMs", millis(histogram.getMaxValue()));
+        return row;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n%-40s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map<String, Object> row : rows) {
+            out.printf("%-40s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.get("scenario"), row.get("requests"), row.get("errors"), row.get("throughputPerSecond"),
+                    row.get("p50Ms"), row.get("p90Ms"), row.get("p99Ms"), row.get("p999Ms"), row.get("maxMs"));
+        }
+    }
+
+    /**
+     * Overall throughput and latency of each run side by side, with the change from the first.
+     */
+    static void printComparison(Map<String, LoadReport> reports, PrintStream out) {
+        out.printf("%n%-12s %9s %7s %9s %9s %9s %9s%n", "threads", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        Map<String, Object> baseline = null;
+        for (Map.Entry<String, LoadReport> entry : reports.entrySet()) {
+            Map<String, Object> total = entry.getValue().total();
+            out.printf("%-12s %9d %7d %9.1f %9.2f %9.2f %9.2f",
+                    entry.getKey(), total.get("requests"), total.get("errors"), total.get("throughputPerSecond"),
+                    total.get("p50Ms"), total.get("p99Ms"), total.get("maxMs"));
+            if (baseline == null) {
+                baseline = total;
+                out.println();
+            } else {
+                out.printf("   req/s %+.1f%%, p99 %+.1f%%%n",
+                        change(baseline, total, "throughputPerSecond"), change(baseline, total, "p99Ms"));
+            }
+        }
+    }
+
+    private Map<String, Object> total() {
+        return rows.get(rows.size() - 1);
+    }
+
+    private static double change(Map<String, Object> baseline, Map<String, Object> row, String column) {
+        double from = (Double) baseline.get(column);
+        return from == 0 ? 0 : ((Double) row.get(column) - from) / from * 100;
+    }
+
+    void write(Path file, ObjectMapper objectMapper, String threads) throws IOException {
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("mix", options.mix);
+        run.put("departments", options.departments);
+        run.put("employees", options.employees);
+        run.put("salaryMonths", options.salaryMonths);
+        run.put("leaveRequestsPerYear", options.leaveRequestsPerYear);
+        run.put("concurrency", options.concurrency);
+        run.put("warmup", options.warmup.toString());
+        run.put("duration", options.duration.toString());
+        run.put("threads", threads);
+        run.put("applicationArgs", options.applicationArgs);
+        run.put("javaVersion", System.getProperty("java.version"));
+        run.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("run", run);
+        document.put("results", rows);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), document);
+        System.out.printf("Wrote %s%n", file);
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,134 @@
+package com.aura.staffmanager.loadtest;
+
+import com.aura.staffmanager.StaffManagerApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Boots the application against an embedded PostgreSQL, seeds a synthetic org and drives a
+ * request mix over HTTP with real JWTs.
+ *
+ * <pre>
+ * mvn -Pload-test test-compile exec:exec -Dload-test.args="--employees=20000 --concurrency=64 --out=target/run.json"
+ * </pre>
+ *
+ * <p>Options: {@code --departments}, {@code --employees}, {@code --salary-months},
+ * {@code --leave-requests-per-year}, {@code --employee-sessions}, {@code --concurrency},
+ * {@code --warmup} and {@code --duration} (e.g. {@code 30s}), {@code --mix} ({@code browse},
+ * {@code reports} or {@code login}), {@code --replicas}, {@code --seed} and {@code --out} (JSON
+ * report). {@code --replicas=N} adds N read-replica pools on the same embedded database; there is
+ * no replication, but read-only transactions are routed and counted per pool. Any other
+ * {@code --key=value} is passed to the application.
+ *
+ * <p>{@code --threads} picks {@code platform} (the default) or {@code virtual} request threads.
+ * {@code --threads=compare} measures both, one after the other, each against its own freshly
+ * seeded database, then prints their throughput and latency side by side; with {@code --out}
+ * each mode gets its own report, e.g. {@code run-platform.json}. Virtual threads need the
+ * harness to run on Java 21 or later.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        if (options.threadModes().contains("virtual") && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need Java 21 or later, but this is Java " + Runtime.version());
+        }
+        Map<String, LoadReport> reports = new LinkedHashMap<>();
+        for (String threads : options.threadModes()) {
+            reports.put(threads, run(options, threads));
+        }
+        if (reports.size() > 1) {
+            LoadReport.printComparison(reports, System.out);
+        }
+    }
+
+    private static LoadReport run(LoadTestOptions options, String threads) throws Exception {
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext context = start(postgres, options, threads)) {
+            SyntheticOrg org = SyntheticOrg.seed(context, options);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            Session session = new Session("http://localhost:" + port, org, client, objectMapper,
+                    options.employeeSessions);
+            LoadReport report = new LoadDriver(client, session, Mixes.named(options.mix), options).run();
+            System.out.printf("%n%s threads", threads);
+            report.print(System.out);
+            if (options.replicas > 0) {
+                printPoolUsage(context.getBean(MeterRegistry.class), System.out);
+            }
+            if (options.out != null) {
+                report.write(options.threadModes().size() > 1 ? withSuffix(options.out, threads) : options.out,
+                        objectMapper, threads);
+            }
+            return report;
+        }
+    }
+
+    private static Path withSuffix(Path file, String suffix) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return file.resolveSibling(dot < 0 ? name + "-" + suffix : name.substring(0, dot) + "-" + suffix + name.substring(dot));
+    }
+
+    /**
+     * Starts the application with settings that keep the measurement about the code: an
+     * ephemeral port and no rate limits (all load comes from one address and a few users).
+     * Virtual threads come from the {@code virtual} profile, as in production. Passed-through
+     * arguments override these.
+     */
+    private static ConfigurableApplicationContext start(EmbeddedPostgres postgres, LoadTestOptions options,
+                                                        String threads) {
+        // devtools is on the classpath and would restart the application in a new class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "postgres");
+        properties.put("server.port", "0");
+        properties.put("management.server.port", "0");
+        properties.put("rate-limit.enabled", "false");
+        if (threads.equals("virtual")) {
+            properties.put("spring.profiles.include", "virtual");
+        }
+        for (int i = 0; i < options.replicas; i++) {
+            properties.put("datasource-routing.replicas[" + i + "].url", postgres.getJdbcUrl("postgres", "postgres"));
+        }
+        for (String arg : options.applicationArgs) {
+            properties.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(StaffManagerApplication.class).run(args);
+    }
+
+    private static void printPoolUsage(MeterRegistry meterRegistry, PrintStream out) {
+        out.println();
+        out.println("connections used per pool, including warmup and seeding");
+        for (Timer timer : meterRegistry.find("hikaricp.connections.usage").timers()) {
+            out.printf("  %-12s %10d%n", timer.getId().getTag("pool"), timer.count());
+        }
+    }
+}
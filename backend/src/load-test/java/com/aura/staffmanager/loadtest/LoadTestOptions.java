@@ -0,0 +1,75 @@
+package com.aura.staffmanager.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Harness options given as {@code --key=value}. Arguments the harness doesn't know are passed
+ * on to the application unchanged.
+ */
+final class LoadTestOptions {
+
+    int departments = 40;
+    int employees = 5000;
+    int salaryMonths = 36;
+    int leaveRequestsPerYear = 4;
+    int employeeSessions = 50;
+    int concurrency = 32;
+    int replicas = 0;
+    Duration warmup = Duration.ofSeconds(20);
+    Duration duration = Duration.ofSeconds(60);
+    String mix = "browse";
+    String threads = "platform";
+    long seed = 42;
+    Path out;
+    final List<String> applicationArgs = new ArrayList<>();
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (key) {
+                case "departments" -> options.departments = Integer.parseInt(value);
+                case "employees" -> options.employees = Integer.parseInt(value);
+                case "salary-months" -> options.salaryMonths = Integer.parseInt(value);
+                case "leave-requests-per-year" -> options.leaveRequestsPerYear = Integer.parseInt(value);
+                case "employee-sessions" -> options.employeeSessions = Integer.parseInt(value);
+                case "concurrency" -> options.concurrency = Integer.parseInt(value);
+                case "replicas" -> options.replicas = Integer.parseInt(value);
+                case "warmup" -> options.warmup = DurationStyle.detectAndParse(value);
+                case "duration" -> options.duration = DurationStyle.detectAndParse(value);
+                case "mix" -> options.mix = value;
+                case "threads" -> options.threads = value;
+                case "seed" -> options.seed = Long.parseLong(value);
+                case "out" -> options.out = Path.of(value);
+                default -> options.applicationArgs.add(arg);
+            }
+        }
+        if (options.departments < 1 || options.employees < 1 || options.concurrency < 1) {
+            throw new IllegalArgumentException("departments, employees and concurrency must be positive");
+        }
+        if (!List.of("platform", "virtual", "compare").contains(options.threads)) {
+            throw new IllegalArgumentException("threads must be platform, virtual or compare but was " + options.threads);
+        }
+        return options;
+    }
+
+    /**
+     * The thread modes to measure, each in its own run against freshly seeded data.
+     */
+    List<String> threadModes() {
+        return threads.equals("compare") ? List.of("platform", "virtual") : List.of(threads);
+    }
+
+    int years() {
+        return Math.max(1, (salaryMonths + 11) / 12);
+    }
+}
@@ -0,0 +1,109 @@
+package com.aura.staffmanager.loadtest;
+
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Named request mixes. Weights are relative; each mix models one kind of day.
+ */
+final class Mixes {
+
+    private static final String[] SEARCH_PREFIXES = {"jam", "mar", "rob", "pat", "joh", "smi", "gar", "wil",
+            "eng", "ana", "des", "depart"};
+
+    private Mixes() {
+    }
+
+    static List<Scenario> named(String mix) {
+        return switch (mix) {
+            // Staff and managers using the app through the day
+            case "browse" -> List.of(
+                    employeePage(20), employeeById(15), employeeSearch(15), departments(10),
+                    mySalaries(10), myLeaveBalance(8), absences(7), salariesByMonth(3), payrollReport(2),
+                    createLeaveRequest(5), login(5));
+            // Month-end: admins running reports and reviewing payroll
+            case "reports" -> List.of(
+                    payrollReport(30), absences(25), salariesByMonth(25), departments(20));
+            // Monday-morning login burst
+            case "login" -> List.of(login(100));
+            default -> throw new IllegalArgumentException("Unknown mix " + mix + "; use browse, reports or login");
+        };
+    }
+
+    private static Scenario employeePage(int weight) {
+        return new Scenario("GET /api/employees?size", weight, (session, random) -> {
+            String filter = random.nextInt(3) == 0
+                    ? "&departmentId=" + (1 + random.nextInt(session.org.departments))
+                    : "";
+            return session.admin("/api/employees?size=50&sort=LAST_NAME" + filter).GET().build();
+        });
+    }
+
+    private static Scenario employeeById(int weight) {
+        return new Scenario("GET /api/employees/{id}", weight, (session, random) ->
+                session.admin("/api/employees/" + (1 + random.nextInt(session.org.employees))).GET().build());
+    }
+
+    private static Scenario employeeSearch(int weight) {
+        return new Scenario("GET /api/employees/search", weight, (session, random) ->
+                session.admin("/api/employees/search?q=" + SEARCH_PREFIXES[random.nextInt(SEARCH_PREFIXES.length)])
+                        .GET().build());
+    }
+
+    private static Scenario departments(int weight) {
+        return new Scenario("GET /api/departments", weight, (session, random) ->
+                session.admin("/api/departments").GET().build());
+    }
+
+    private static Scenario mySalaries(int weight) {
+        return new Scenario("GET /api/salaries/employee/{id}", weight, (session, random) ->
+                session.employee("/api/salaries/employee/{id}", random).GET().build());
+    }
+
+    private static Scenario myLeaveBalance(int weight) {
+        return new Scenario("GET /api/leave-balances/employee/{id}", weight, (session, random) ->
+                session.employee("/api/leave-balances/employee/{id}", random).GET().build());
+    }
+
+    private static Scenario absences(int weight) {
+        return new Scenario("GET /api/leave-requests/absences", weight, (session, random) -> {
+            LocalDate from = LocalDate.now().minusDays(random.nextInt(365));
+            return session.admin("/api/leave-requests/absences?from=" + from + "&to=" + from.plusDays(14)
+                    + "&departmentId=" + (1 + random.nextInt(session.org.departments))).GET().build();
+        });
+    }
+
+    private static Scenario salariesByMonth(int weight) {
+        return new Scenario("GET /api/salaries/month/{m}/year/{y}", weight, (session, random) -> {
+            YearMonth month = YearMonth.now().minusMonths(random.nextInt(Math.max(1, session.org.salaryMonths)));
+            return session.admin("/api/salaries/month/" + month.getMonthValue() + "/year/" + month.getYear())
+                    .GET().build();
+        });
+    }
+
+    private static Scenario payrollReport(int weight) {
+        return new Scenario("GET /api/reports/payroll", weight, (session, random) -> {
+            YearMonth to = YearMonth.now();
+            return session.admin("/api/reports/payroll?from=" + to.minusMonths(11) + "&to=" + to).GET().build();
+        });
+    }
+
+    private static Scenario createLeaveRequest(int weight) {
+        return new Scenario("POST /api/leave-requests", weight, (session, random) -> {
+            LocalDate start = LocalDate.now().plusDays(30 + random.nextInt(300));
+            String body = "{\"startDate\":\"" + start + "\",\"endDate\":\"" + start.plusDays(random.nextInt(5))
+                    + "\",\"type\":\"PERSONAL\",\"reason\":\"Load test\"}";
+            return session.employee("/api/leave-requests", random)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        });
+    }
+
+    private static Scenario login(int weight) {
+        return new Scenario("POST /api/auth/login", weight, (session, random) ->
+                session.loginRequest("employee" + (1 + random.nextInt(session.org.employees)) + "@load.test"));
+    }
+}
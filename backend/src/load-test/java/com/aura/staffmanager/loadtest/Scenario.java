@@ -0,0 +1,25 @@
+package com.aura.staffmanager.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+/**
+ * One kind of request in a mix, picked with probability proportional to its weight.
+ */
+final class Scenario {
+
+    final String name;
+    final int weight;
+    private final BiFunction<Session, Random, HttpRequest> request;
+
+    Scenario(String name, int weight, BiFunction<Session, Random, HttpRequest> request) {
+        this.name = name;
+        this.weight = weight;
+        this.request = request;
+    }
+
+    HttpRequest newRequest(Session session, Random random) {
+        return request.apply(session, random);
+    }
+}
@@ -0,0 +1,79 @@
+package com.aura.staffmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Base URL and JWTs for the running application: one admin token and a pool of employee
+ * tokens for the self-service endpoints. Tokens come from the real login endpoint.
+ */
+final class Session {
+
+    final String baseUrl;
+    final SyntheticOrg org;
+    final String adminToken;
+    final List<Long> employeeIds = new ArrayList<>();
+    final List<String> employeeTokens = new ArrayList<>();
+
+    Session(String baseUrl, SyntheticOrg org, HttpClient client, ObjectMapper objectMapper, int employeeSessions)
+            throws IOException, InterruptedException {
+        this.baseUrl = baseUrl;
+        this.org = org;
+        this.adminToken = login(client, objectMapper, SyntheticOrg.ADMIN_EMAIL);
+        long stride = Math.max(1, org.employees / Math.max(1, employeeSessions));
+        for (long id = 1; id <= org.employees && employeeTokens.size() < employeeSessions; id += stride) {
+            employeeTokens.add(login(client, objectMapper, "employee" + id + "@load.test"));
+            employeeIds.add(id);
+        }
+    }
+
+    HttpRequest.Builder admin(String path) {
+        return request(path, adminToken);
+    }
+
+    /**
+     * A request authenticated as a random employee; {@code path} may contain {@code {id}},
+     * replaced with that employee's id.
+     */
+    HttpRequest.Builder employee(String path, Random random) {
+        int index = random.nextInt(employeeTokens.size());
+        return request(path.replace("{id}", Long.toString(employeeIds.get(index))), employeeTokens.get(index));
+    }
+
+    HttpRequest.Builder anonymous(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(60));
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        return anonymous(path).header("Authorization", "Bearer " + token);
+    }
+
+    HttpRequest loginRequest(String email) {
+        return anonymous("/api/auth/login")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + email + "\",\"password\":\"" + SyntheticOrg.PASSWORD + "\"}"))
+                .build();
+    }
+
+    private String login(HttpClient client, ObjectMapper objectMapper, String email)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(loginRequest(email), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + email + ": " + response.statusCode()
+                    + " " + response.body());
+        }
+        JsonNode body = objectMapper.readTree(response.body());
+        return body.get("token").asText();
+    }
+}
@@ -0,0 +1,105 @@
+package com.aura.staffmanager.loadtest;
+
+import com.aura.staffmanager.service.EmployeeSearchIndex;
+import com.aura.staffmanager.service.LeaveBalanceService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Seeds departments, users, employees and their salary and leave history with set-based
+ * {@code generate_series} inserts, so even large orgs load in seconds. Values are derived from
+ * ids, so the same options always produce the same data.
+ */
+final class SyntheticOrg {
+
+    static final String PASSWORD = "load-test-password";
+    static final String ADMIN_EMAIL = "admin@load.test";
+
+    private static final String FIRST_NAMES = "(array['James','Mary','Robert','Patricia','John','Jennifer','Michael',"
+            + "'Linda','David','Elizabeth','William','Barbara','Richard','Susan','Joseph','Jessica','Thomas','Sarah',"
+            + "'Charles','Karen'])";
+    private static final String LAST_NAMES = "(array['Smith','Johnson','Williams','Brown','Jones','Garcia','Miller',"
+            + "'Davis','Rodriguez','Martinez','Hernandez','Lopez','Gonzalez','Wilson','Anderson','Thomas','Taylor',"
+            + "'Moore','Jackson','Martin'])";
+    private static final String POSITIONS = "(array['Engineer','Senior Engineer','Analyst','Designer','Accountant',"
+            + "'Recruiter','Support Specialist','Product Manager'])";
+
+    final int departments;
+    final int employees;
+    final int salaryMonths;
+
+    private SyntheticOrg(int departments, int employees, int salaryMonths) {
+        this.departments = departments;
+        this.employees = employees;
+        this.salaryMonths = salaryMonths;
+    }
+
+    static SyntheticOrg seed(ApplicationContext context, LoadTestOptions options) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        long start = System.nanoTime();
+
+        jdbc.update("INSERT INTO departments (id, name, description) "
+                + "SELECT g, 'Department ' || g, 'Synthetic department ' || g FROM generate_series(1, ?) g",
+                options.departments);
+
+        jdbc.update("INSERT INTO users (id, email, password, first_name, last_name, role) "
+                + "SELECT g, 'employee' || g || '@load.test', ?, "
+                + FIRST_NAMES + "[1 + g % 20], " + LAST_NAMES + "[1 + (g / 20) % 20], "
+                + "CASE WHEN g % 25 = 0 THEN 'MANAGER' ELSE 'EMPLOYEE' END "
+                + "FROM generate_series(1, ?) g",
+                passwordHash, options.employees);
+        jdbc.update("INSERT INTO users (id, email, password, first_name, last_name, role) "
+                + "VALUES (?, ?, ?, 'Load', 'Admin', 'ADMIN')",
+                options.employees + 1, ADMIN_EMAIL, passwordHash);
+
+        jdbc.update("INSERT INTO employees (id, first_name, last_name, email, phone, hire_date, department_id, "
+                + "position, salary, address, status, user_id) "
+                + "SELECT u.id, u.first_name, u.last_name, u.email, '+1 555 ' || lpad(u.id::text, 7, '0'), "
+                + "DATE '2010-01-01' + (u.id * 7919 % 5000)::int, 1 + u.id % ?, "
+                + POSITIONS + "[1 + u.id % 8], 40000 + u.id * 37 % 80000, u.id || ' Main Street', "
+                + "CASE WHEN u.id % 50 = 0 THEN 'INACTIVE' ELSE 'ACTIVE' END, u.id "
+                + "FROM users u WHERE u.role <> 'ADMIN'",
+                options.departments);
+
+        jdbc.update("INSERT INTO salaries (id, employee_id, base_salary, bonus, deductions, net_salary, month, year, "
+                + "status, comments) "
+                + "SELECT row_number() OVER (ORDER BY e.id, m), e.id, s.base, s.bonus, s.deductions, "
+                + "s.base + s.bonus - s.deductions, s.month, extract(year FROM s.month), "
+                + "CASE WHEN m = 0 THEN 'PENDING' WHEN m = 1 THEN 'PROCESSING' ELSE 'PAID' END, NULL "
+                + "FROM employees e CROSS JOIN generate_series(0, ? - 1) m "
+                + "CROSS JOIN LATERAL (SELECT round(e.salary::numeric / 12, 2) AS base, "
+                + "round((e.id + m) % 7 * 50.0, 2) AS bonus, round(e.salary::numeric / 12 * 0.2, 2) AS deductions, "
+                + "(date_trunc('month', current_date) - make_interval(months => m))::date AS month) s",
+                options.salaryMonths);
+
+        int requestsPerEmployee = options.years() * options.leaveRequestsPerYear;
+        int spacingDays = 365 / options.leaveRequestsPerYear;
+        jdbc.update("INSERT INTO leave_requests (employee_id, start_date, end_date, type, status, reason, "
+                + "created_at, updated_at) "
+                + "SELECT e.id, s.start_date, s.start_date + ((e.id + k) % 10)::int, "
+                + "(array['VACATION','SICK','PERSONAL','OTHER'])[1 + (e.id + k) % 4], "
+                + "CASE WHEN s.start_date > current_date THEN 'PENDING' "
+                + "WHEN (e.id + k) % 10 = 0 THEN 'REJECTED' ELSE 'APPROVED' END, "
+                + "'Synthetic leave', s.start_date - 14, s.start_date - 7 "
+                + "FROM employees e CROSS JOIN generate_series(0, ? - 1) k "
+                + "CROSS JOIN LATERAL (SELECT current_date + (k * ? + e.id % 30 - ? * 365)::int AS start_date) s",
+                requestsPerEmployee, spacingDays, options.years());
+
+        for (String table : new String[] {"departments", "users", "employees", "salaries", "leave_requests"}) {
+            jdbc.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                    + "(SELECT max(id) FROM " + table + "))");
+        }
+        jdbc.execute("ANALYZE");
+
+        context.getBean(LeaveBalanceService.class).rebuild();
+        context.getBean(EmployeeSearchIndex.class).rebuild();
+
+        System.out.printf("Seeded %d departments, %d employees, %d months of salaries and %d leave requests "
+                        + "each in %d ms%n",
+                options.departments, options.employees, options.salaryMonths, requestsPerEmployee,
+                (System.nanoTime() - start) / 1_000_000);
+        return new SyntheticOrg(options.departments, options.employees, options.salaryMonths);
+    }
+}
@@ -0,0 +1,118 @@
+package com.aura.staffmanager.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replicas in {@link DataSourceRoutingProperties} and
+ * everything else to the primary. Only active when at least one replica is configured.
+ *
+ * <p>The application's DataSource is a {@link LazyConnectionDataSourceProxy} over a routing
+ * DataSource. The proxy fetches the real connection at the first statement, by which time the
+ * transaction manager has published whether the transaction is read-only, so the routing can
+ * still choose between the primary and the {@link ReplicaDataSource}.
+ *
+ * <p>Replica reads can be up to {@code max-lag} stale. Entities such a read puts into the
+ * second-level cache stay there until the region's TTL expires (15 minutes to an hour, see
+ * application.properties) or a write through this instance replaces them, so a stale replica
+ * read can outlive the lag itself. Lower those TTLs if that matters more than the cache hit rate.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource-routing.replicas[0]", name = "url")
+public class DataSourceRoutingConfig {
+
+    /**
+     * The pool Spring Boot would otherwise have built from spring.datasource. Flyway migrates
+     * through it directly.
+     */
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource, DataSourceProperties primaryProperties,
+                                               DataSourceRoutingProperties routing, MeterRegistry meterRegistry) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < routing.getReplicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = routing.getReplicas().get(i);
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(replica.getUrl());
+            config.setUsername(replica.getUsername() != null ? replica.getUsername() : primaryProperties.determineUsername());
+            config.setPassword(replica.getPassword() != null ? replica.getPassword() : primaryProperties.determinePassword());
+            config.setMaximumPoolSize(replica.getMaximumPoolSize());
+            config.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+            config.setReadOnly(true);
+            // Not beans, so Spring Boot's pool metrics would not see them
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            // Start empty; a replica that is down at startup is retried by the lag check
+            config.setInitializationFailTimeout(-1);
+            pools.add(new HikariDataSource(config));
+        }
+        return new ReplicaDataSource(primaryDataSource, pools, routing.getMaxLag(), routing.getLagCheckInterval(),
+                meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        ReadOnlyRoutingDataSource routing = new ReadOnlyRoutingDataSource();
+        routing.setTargetDataSources(Map.of(Target.PRIMARY, primaryDataSource, Target.REPLICA, replicaDataSource));
+        routing.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+
+    /**
+     * Spring's default keeps a session's first connection until the session closes, which with
+     * open-in-view is the whole request: a write after a read-only transaction would then run on
+     * the replica connection. Releasing after each transaction lets every transaction route anew.
+     * Spring then no longer marks the connection itself read-only, which is why the routing looks
+     * at the transaction rather than at the connection.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionsAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    private enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private static class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Target.REPLICA : Target.PRIMARY;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.aura.staffmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "datasource-routing")
+public class DataSourceRoutingProperties {
+    /**
+     * Read replicas for read-only transactions. With none, everything uses spring.datasource.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Replicas further behind the primary than this are skipped until they catch up.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+
+    @Data
+    public static class Replica {
+        private String url;
+
+        /**
+         * Defaults to spring.datasource.username.
+         */
+        private String username;
+
+        /**
+         * Defaults to spring.datasource.password.
+         */
+        private String password;
+
+        private int maximumPoolSize = 10;
+
+        /**
+         * Kept short so an unreachable replica falls back to the primary quickly.
+         */
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+    }
+}
@@ -0,0 +1,72 @@
+package com.aura.staffmanager.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Runs payroll generation in the background. A single worker keeps concurrent runs from
+     * competing for the same rows; extra runs wait in a short queue.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public TaskExecutor payrollExecutor() {
+        return singleWorker(null);
+    }
+
+    /**
+     * Same single-worker queue as the platform variant, but the worker is a virtual thread so
+     * its JDBC waits don't hold a carrier thread.
+     */
+    @Bean(name = "payrollExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public TaskExecutor virtualPayrollExecutor() {
+        return singleWorker(new VirtualThreadTaskExecutor("payroll-").getVirtualThreadFactory());
+    }
+
+    /**
+     * Runs BCrypt for login and register. Sized below the core count so a login burst can't take
+     * every CPU from the other endpoints; the short queue absorbs ordinary peaks and anything
+     * beyond it is refused immediately. Exposed as {@code executor.*} meters named passwordHashing.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService passwordHashingExecutor(@Value("${auth.password-hashing.threads:0}") int threads,
+                                                   @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+                                                   MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHashing");
+    }
+
+    private ThreadPoolTaskExecutor singleWorker(ThreadFactory threadFactory) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("payroll-");
+        if (threadFactory != null) {
+            executor.setThreadFactory(threadFactory);
+        }
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.initialize();
+        return executor;
+    }
+}
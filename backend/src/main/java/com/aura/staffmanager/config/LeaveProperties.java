@@ -0,0 +1,31 @@
+package com.aura.staffmanager.config;
+
+import com.aura.staffmanager.entity.LeaveType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "leave")
+public class LeaveProperties {
+    /**
+     * Default yearly entitlement in working days, per leave type.
+     */
+    private Map<LeaveType, Integer> entitlements = new EnumMap<>(LeaveType.class);
+
+    /**
+     * Public holidays that do not count as working days.
+     */
+    private List<LocalDate> holidays = new ArrayList<>();
+
+    public int getEntitlement(LeaveType type) {
+        return entitlements.getOrDefault(type, 0);
+    }
+}
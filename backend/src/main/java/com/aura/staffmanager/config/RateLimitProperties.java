@@ -0,0 +1,47 @@
+package com.aura.staffmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+
+    /**
+     * Clients tracked per group. Past this, the least recently seen client is dropped, which at
+     * worst hands it a full bucket again.
+     */
+    private long maxClients = 100_000;
+
+    /**
+     * Route groups by name. A request counts against every group whose paths it matches.
+     */
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Data
+    public static class Group {
+        /**
+         * Ant-style request paths, e.g. {@code /api/employees/**}.
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * Requests a client can make in a burst.
+         */
+        private int capacity = 60;
+
+        /**
+         * Time for an empty bucket to refill, so the sustained rate is capacity per period.
+         */
+        private Duration period = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,149 @@
+package com.aura.staffmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connections for read-only transactions, round-robin over the replica pools whose replication
+ * lag was within {@code maxLag} at the last check. When no replica qualifies, or the chosen one
+ * cannot hand out a connection, the primary serves the read, so a lagging or unreachable replica
+ * costs read capacity but never fails a request.
+ */
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaDataSource.class);
+
+    /**
+     * Seconds since the last replayed transaction, or 0 when the replica has replayed everything
+     * it received (an idle primary would otherwise look like growing lag) or is not a standby.
+     * NULL when the standby's WAL receiver is not streaming: it then receives nothing, so having
+     * replayed all of it says nothing about how far behind the primary it is. Roles without
+     * pg_read_all_stats see the receiver but not its status, and get the benefit of the doubt.
+     */
+    private static final String LAG_QUERY = "SELECT CASE "
+            + "WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver "
+            + "WHERE COALESCE(status, 'streaming') = 'streaming') THEN NULL "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final double maxLagSeconds;
+    private final ScheduledExecutorService lagChecker;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter fallbacks;
+    private volatile HikariDataSource[] eligible = new HikariDataSource[0];
+
+    public ReplicaDataSource(DataSource primary, List<HikariDataSource> replicaPools, Duration maxLag,
+                             Duration lagCheckInterval, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.fallbacks = Counter.builder("datasource.replica.fallback")
+                .description("Read-only connections served by the primary because no replica was usable")
+                .register(meterRegistry);
+        for (Replica replica : replicas) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Replication lag at the last check; NaN when the replica was unreachable or not streaming")
+                    .baseUnit("seconds")
+                    .tag("pool", replica.pool.getPoolName())
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.available", replica, r -> r.available ? 1 : 0)
+                    .description("Whether the replica currently takes read-only transactions")
+                    .tag("pool", replica.pool.getPoolName())
+                    .register(meterRegistry);
+        }
+
+        this.lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagChecker.scheduleWithFixedDelay(this::checkLag, 0, lagCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        HikariDataSource[] pools = eligible;
+        if (pools.length > 0) {
+            HikariDataSource pool = pools[Math.floorMod(next.getAndIncrement(), pools.length)];
+            try {
+                return pool.getConnection();
+            } catch (SQLException e) {
+                logger.warn("Replica pool {} could not provide a connection, reading from the primary",
+                        pool.getPoolName(), e);
+            }
+        }
+        fallbacks.increment();
+        return primary.getConnection();
+    }
+
+    /**
+     * Replica pools only hold connections for their configured credentials, so a read asking for
+     * others is served by the primary, like any read no replica can take.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        fallbacks.increment();
+        return primary.getConnection(username, password);
+    }
+
+    private void checkLag() {
+        for (Replica replica : replicas) {
+            boolean wasAvailable = replica.available;
+            try (Connection connection = replica.pool.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                double lagSeconds = resultSet.getDouble(1);
+                replica.lagSeconds = resultSet.wasNull() ? Double.NaN : lagSeconds;
+                replica.available = replica.lagSeconds <= maxLagSeconds;
+            } catch (SQLException e) {
+                replica.lagSeconds = Double.NaN;
+                replica.available = false;
+            }
+            if (replica.available != wasAvailable) {
+                logger.info("Replica pool {} is now {} (lag {}s)", replica.pool.getPoolName(),
+                        replica.available ? "in use" : "skipped", replica.lagSeconds);
+            }
+        }
+        eligible = replicas.stream()
+                .filter(replica -> replica.available)
+                .map(replica -> replica.pool)
+                .toArray(HikariDataSource[]::new);
+    }
+
+    @Override
+    public void close() {
+        lagChecker.shutdownNow();
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    private static final class Replica {
+        private final HikariDataSource pool;
+        private volatile double lagSeconds = Double.NaN;
+        private volatile boolean available;
+
+        private Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.aura.staffmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "second-level-cache")
+public class SecondLevelCacheProperties {
+    /**
+     * Hibernate cache regions by name. Every region used by an entity or a cacheable query must be
+     * listed here; Hibernate refuses to start on a region that is not configured.
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Data
+    public static class Region {
+        private long maxSize = 1000;
+
+        /**
+         * Upper bound on staleness for writes made by other instances. Writes through this
+         * instance invalidate immediately.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
@@ -3,9 +3,12 @@ package com.aura.staffmanager.controller;
 import com.aura.staffmanager.dto.auth.AuthResponse;
 import com.aura.staffmanager.dto.auth.LoginRequest;
 import com.aura.staffmanager.dto.auth.RegisterRequest;
+import com.aura.staffmanager.exception.TooManyRequestsException;
 import com.aura.staffmanager.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,4 +28,11 @@ public class AuthController {
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
         return ResponseEntity.ok(authService.login(request));
     }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<String> tooManyRequests(TooManyRequestsException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfter().toSeconds()))
+                .body(ex.getMessage());
+    }
 } 
\ No newline at end of file
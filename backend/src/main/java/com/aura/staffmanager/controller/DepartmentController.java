@@ -3,6 +3,7 @@ package com.aura.staffmanager.controller;
 import com.aura.staffmanager.dto.department.CreateDepartmentRequest;
 import com.aura.staffmanager.dto.department.DepartmentResponse;
 import com.aura.staffmanager.service.DepartmentService;
+import com.aura.staffmanager.service.ResourceVersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -10,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -22,23 +24,23 @@ public class DepartmentController {
 
     private static final Logger logger = LoggerFactory.getLogger(DepartmentController.class);
     private final DepartmentService departmentService;
+    private final ResourceVersionService resourceVersionService;
+    private final EtagResponses etagResponses;
 
     @GetMapping
-    public ResponseEntity<List<DepartmentResponse>> getAllDepartments() {
+    public ResponseEntity<List<DepartmentResponse>> getAllDepartments(WebRequest webRequest) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        System.out.println(">>> Auth user: " + auth.getName());
-        System.out.println(">>> Roles: " + auth.getAuthorities());
-        List<DepartmentResponse> departments = departmentService.getAllDepartments();
-        return ResponseEntity.ok(departments);
+        logger.debug("Listing departments for {} with roles {}", auth.getName(), auth.getAuthorities());
+        return etagResponses.conditional(webRequest, () -> resourceVersionService.etag(ResourceVersionService.DEPARTMENTS),
+                departmentService::getAllDepartments);
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    public ResponseEntity<DepartmentResponse> getDepartmentById(@PathVariable Long id) {
+    public ResponseEntity<DepartmentResponse> getDepartmentById(@PathVariable Long id, WebRequest webRequest) {
         logger.debug("Getting department with id: {}", id);
-        DepartmentResponse department = departmentService.getDepartmentById(id);
-        logger.debug("Found department: {}", department);
-        return ResponseEntity.ok(department);
+        return etagResponses.conditional(webRequest, () -> resourceVersionService.etag(ResourceVersionService.DEPARTMENTS, id),
+                () -> departmentService.getDepartmentById(id));
     }
 
     @PostMapping
@@ -1,16 +1,28 @@
 package com.aura.staffmanager.controller;
 
 import com.aura.staffmanager.dto.employee.CreateEmployeeRequest;
+import com.aura.staffmanager.dto.employee.EmployeeImportResponse;
+import com.aura.staffmanager.dto.employee.EmployeePageResponse;
 import com.aura.staffmanager.dto.employee.EmployeeResponse;
+import com.aura.staffmanager.dto.employee.EmployeeSearchResult;
+import com.aura.staffmanager.dto.employee.EmployeeSortKey;
 import com.aura.staffmanager.dto.employee.UpdateEmployeeRequest;
 import com.aura.staffmanager.entity.Employee;
+import com.aura.staffmanager.entity.EmployeeStatus;
+import com.aura.staffmanager.service.EmployeeImportService;
 import com.aura.staffmanager.service.EmployeeService;
+import com.aura.staffmanager.service.ResourceVersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -19,15 +31,39 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
+    private final ResourceVersionService resourceVersionService;
+    private final EtagResponses etagResponses;
 
     @GetMapping
-    public ResponseEntity<List<EmployeeResponse>> getAllEmployees() {
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+    public ResponseEntity<List<EmployeeResponse>> getAllEmployees(WebRequest webRequest) {
+        return etagResponses.conditional(webRequest, () -> resourceVersionService.etag(ResourceVersionService.EMPLOYEES),
+                employeeService::getAllEmployees);
+    }
+
+    @GetMapping(params = "size")
+    public ResponseEntity<EmployeePageResponse> getEmployeePage(
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "ID") EmployeeSortKey sort,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) EmployeeStatus status,
+            WebRequest webRequest) {
+        return etagResponses.conditional(webRequest, () -> resourceVersionService.etag(ResourceVersionService.EMPLOYEES),
+                () -> employeeService.getEmployeePage(cursor, size, sort, departmentId, status));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<EmployeeSearchResult>> searchEmployees(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(employeeService.searchEmployees(query, limit));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeResponse> getEmployeeById(@PathVariable Long id) {
-        return ResponseEntity.ok(employeeService.getEmployeeById(id));
+    public ResponseEntity<EmployeeResponse> getEmployeeById(@PathVariable Long id, WebRequest webRequest) {
+        return etagResponses.conditional(webRequest, () -> resourceVersionService.etag(ResourceVersionService.EMPLOYEES, id),
+                () -> employeeService.getEmployeeById(id));
     }
 
     @PostMapping
@@ -36,6 +72,14 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.createEmployee(request));
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<EmployeeImportResponse> importEmployees(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(employeeImportService.importCsv(input));
+        }
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<EmployeeResponse> updateEmployee(
@@ -0,0 +1,45 @@
+package com.aura.staffmanager.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET support: answers 304 when the client's If-None-Match matches the current
+ * ETag, and only otherwise loads the body.
+ *
+ * <p>The ETag and the body are read in one read-only transaction, ETag first. The transaction
+ * runs on a single connection, so with read replicas both come from the same server, and the
+ * body is never older than the version its ETag names. Reading the version on one server and
+ * the body on another, more lagging one would pair a new ETag with stale data and keep
+ * answering 304 to it.
+ */
+@Component
+class EtagResponses {
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    EtagResponses(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    <T> ResponseEntity<T> conditional(WebRequest request, Supplier<String> etag, Supplier<T> body) {
+        return readOnlyTransaction.execute(status -> {
+            String currentEtag = etag.get();
+            if (request.checkNotModified(currentEtag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentEtag).build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(currentEtag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(body.get());
+        });
+    }
+}
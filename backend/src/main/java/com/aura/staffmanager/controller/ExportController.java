@@ -0,0 +1,52 @@
+package com.aura.staffmanager.controller;
+
+import com.aura.staffmanager.dto.export.ExportFormat;
+import com.aura.staffmanager.entity.LeaveStatus;
+import com.aura.staffmanager.entity.SalaryStatus;
+import com.aura.staffmanager.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @GetMapping("/salaries")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportSalaries(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) YearMonth month,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) SalaryStatus status) {
+        StreamingResponseBody body = out -> exportService.exportSalaries(month, departmentId, status, format, out);
+        return streaming("salaries", format, body);
+    }
+
+    @GetMapping("/leave-requests")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportLeaveRequests(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) YearMonth month,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) LeaveStatus status) {
+        StreamingResponseBody body = out -> exportService.exportLeaveRequests(month, departmentId, status, format, out);
+        return streaming("leave-requests", format, body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> streaming(String name, ExportFormat format, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + "." + format.getExtension() + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,48 @@
+package com.aura.staffmanager.controller;
+
+import com.aura.staffmanager.dto.leave.LeaveBalanceResponse;
+import com.aura.staffmanager.dto.leave.UpdateLeaveEntitlementRequest;
+import com.aura.staffmanager.entity.LeaveType;
+import com.aura.staffmanager.service.LeaveBalanceService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Year;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/leave-balances")
+@RequiredArgsConstructor
+public class LeaveBalanceController {
+
+    private final LeaveBalanceService leaveBalanceService;
+
+    @GetMapping("/employee/{employeeId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER') or @securityService.isCurrentUser(#employeeId)")
+    public ResponseEntity<List<LeaveBalanceResponse>> getBalances(
+            @PathVariable Long employeeId,
+            @RequestParam(required = false) Integer year) {
+        int balanceYear = year != null ? year : Year.now().getValue();
+        return ResponseEntity.ok(leaveBalanceService.getBalances(employeeId, balanceYear));
+    }
+
+    @PutMapping("/employee/{employeeId}/{type}/{year}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<LeaveBalanceResponse> setEntitlement(
+            @PathVariable Long employeeId,
+            @PathVariable LeaveType type,
+            @PathVariable int year,
+            @Valid @RequestBody UpdateLeaveEntitlementRequest request) {
+        return ResponseEntity.ok(leaveBalanceService.setEntitlement(employeeId, type, year, request.getEntitledDays()));
+    }
+
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> rebuild() {
+        leaveBalanceService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+}
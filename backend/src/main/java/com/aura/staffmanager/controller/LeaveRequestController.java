@@ -1,17 +1,25 @@
 package com.aura.staffmanager.controller;
 
 import com.aura.staffmanager.dto.leave.CreateLeaveRequest;
+import com.aura.staffmanager.dto.leave.LeaveDecisionRequest;
+import com.aura.staffmanager.dto.leave.LeaveDecisionResponse;
 import com.aura.staffmanager.dto.leave.LeaveRequestResponse;
 import com.aura.staffmanager.dto.leave.UpdateLeaveRequest;
+import com.aura.staffmanager.entity.LeaveStatus;
+import com.aura.staffmanager.service.LeaveDecisionService;
 import com.aura.staffmanager.service.LeaveRequestService;
+import com.aura.staffmanager.service.ResourceVersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -20,11 +28,15 @@ import java.util.List;
 public class LeaveRequestController {
 
     private final LeaveRequestService leaveRequestService;
+    private final LeaveDecisionService leaveDecisionService;
+    private final ResourceVersionService resourceVersionService;
+    private final EtagResponses etagResponses;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    public ResponseEntity<List<LeaveRequestResponse>> getAllLeaveRequests() {
-        return ResponseEntity.ok(leaveRequestService.getAllLeaveRequests());
+    public ResponseEntity<List<LeaveRequestResponse>> getAllLeaveRequests(WebRequest webRequest) {
+        return etagResponses.conditional(webRequest, () -> resourceVersionService.etag(ResourceVersionService.LEAVE_REQUESTS),
+                leaveRequestService::getAllLeaveRequests);
     }
 
     @GetMapping("/my")
@@ -35,9 +47,20 @@ public class LeaveRequestController {
         return ResponseEntity.ok(leaveRequestService.getMyLeaveRequests(employeeId));
     }
 
+    @GetMapping("/absences")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<List<LeaveRequestResponse>> getAbsences(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(defaultValue = "APPROVED") LeaveStatus status) {
+        return ResponseEntity.ok(leaveRequestService.getAbsences(from, to != null ? to : from, departmentId, status));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<LeaveRequestResponse> getLeaveRequestById(@PathVariable Long id) {
-        return ResponseEntity.ok(leaveRequestService.getLeaveRequestById(id));
+    public ResponseEntity<LeaveRequestResponse> getLeaveRequestById(@PathVariable Long id, WebRequest webRequest) {
+        return etagResponses.conditional(webRequest, () -> resourceVersionService.etag(ResourceVersionService.LEAVE_REQUESTS, id),
+                () -> leaveRequestService.getLeaveRequestById(id));
     }
 
     @PostMapping
@@ -56,6 +79,16 @@ public class LeaveRequestController {
         return ResponseEntity.ok(leaveRequestService.updateLeaveRequest(id, request));
     }
 
+    /**
+     * Approves or rejects a backlog of pending requests in one call and reports the outcome for
+     * each request.
+     */
+    @PostMapping("/decisions")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<LeaveDecisionResponse> decide(@Valid @RequestBody LeaveDecisionRequest request) {
+        return ResponseEntity.ok(leaveDecisionService.decide(request));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteLeaveRequest(@PathVariable Long id) {
         leaveRequestService.deleteLeaveRequest(id);
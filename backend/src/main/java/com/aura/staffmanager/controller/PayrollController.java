@@ -0,0 +1,39 @@
+package com.aura.staffmanager.controller;
+
+import com.aura.staffmanager.dto.payroll.PayrollRunRequest;
+import com.aura.staffmanager.dto.payroll.PayrollRunResponse;
+import com.aura.staffmanager.service.PayrollService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/payroll-runs")
+@RequiredArgsConstructor
+public class PayrollController {
+
+    private final PayrollService payrollService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PayrollRunResponse> startRun(@Valid @RequestBody PayrollRunRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(payrollService.startRun(request));
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<PayrollRunResponse>> getRuns() {
+        return ResponseEntity.ok(payrollService.getRuns());
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PayrollRunResponse> getRun(@PathVariable String id) {
+        return ResponseEntity.ok(payrollService.getRun(id));
+    }
+}
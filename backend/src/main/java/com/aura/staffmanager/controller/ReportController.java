@@ -0,0 +1,33 @@
+package com.aura.staffmanager.controller;
+
+import com.aura.staffmanager.dto.report.PayrollReportDimension;
+import com.aura.staffmanager.dto.report.PayrollReportRow;
+import com.aura.staffmanager.entity.SalaryStatus;
+import com.aura.staffmanager.service.PayrollReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final PayrollReportService payrollReportService;
+
+    @GetMapping("/payroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<PayrollReportRow>> getPayrollReport(
+            @RequestParam(defaultValue = "DEPARTMENT,MONTH,STATUS") Set<PayrollReportDimension> groupBy,
+            @RequestParam(required = false) YearMonth from,
+            @RequestParam(required = false) YearMonth to,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) SalaryStatus status) {
+        return ResponseEntity.ok(payrollReportService.getPayrollReport(groupBy, from, to, departmentId, status));
+    }
+}
@@ -1,11 +1,16 @@
 package com.aura.staffmanager.controller;
 
 import com.aura.staffmanager.dto.SalaryDTO;
+import com.aura.staffmanager.dto.salary.SalaryStatusUpdateRequest;
+import com.aura.staffmanager.dto.salary.SalaryStatusUpdateResponse;
+import com.aura.staffmanager.service.ResourceVersionService;
 import com.aura.staffmanager.service.SalaryService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,11 +20,14 @@ import java.util.List;
 public class SalaryController {
 
     private final SalaryService salaryService;
+    private final ResourceVersionService resourceVersionService;
+    private final EtagResponses etagResponses;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<SalaryDTO>> getAllSalaries() {
-        return ResponseEntity.ok(salaryService.getAllSalaries());
+    public ResponseEntity<List<SalaryDTO>> getAllSalaries(WebRequest webRequest) {
+        return etagResponses.conditional(webRequest, () -> resourceVersionService.etag(ResourceVersionService.SALARIES),
+                salaryService::getAllSalaries);
     }
 
     @GetMapping("/employee/{employeeId}")
@@ -29,9 +37,10 @@ public class SalaryController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or @securityService.isCurrentUser(#id)")
-    public ResponseEntity<SalaryDTO> getSalaryById(@PathVariable Long id) {
-        return ResponseEntity.ok(salaryService.getSalaryById(id));
+    @PreAuthorize("hasRole('ADMIN') or @securityService.isSalaryOwner(#id)")
+    public ResponseEntity<SalaryDTO> getSalaryById(@PathVariable Long id, WebRequest webRequest) {
+        return etagResponses.conditional(webRequest, () -> resourceVersionService.etag(ResourceVersionService.SALARIES, id),
+                () -> salaryService.getSalaryById(id));
     }
 
     @PostMapping
@@ -48,6 +57,17 @@ public class SalaryController {
         return ResponseEntity.ok(salaryService.updateSalary(id, salaryDTO));
     }
 
+    /**
+     * Closes out a month in one call, e.g. every PENDING salary of March to PROCESSING, instead
+     * of one PUT per salary.
+     */
+    @PostMapping("/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SalaryStatusUpdateResponse> updateStatuses(
+            @Valid @RequestBody SalaryStatusUpdateRequest request) {
+        return ResponseEntity.ok(salaryService.updateStatuses(request));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> deleteSalary(@PathVariable Long id) {
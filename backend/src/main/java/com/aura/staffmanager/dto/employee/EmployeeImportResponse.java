@@ -0,0 +1,30 @@
+package com.aura.staffmanager.dto.employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeImportResponse {
+    private long totalRows;
+    private long imported;
+    private long failed;
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String email;
+        private List<String> messages;
+    }
+}
@@ -0,0 +1,18 @@
+package com.aura.staffmanager.dto.employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePageResponse {
+    private List<EmployeeResponse> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
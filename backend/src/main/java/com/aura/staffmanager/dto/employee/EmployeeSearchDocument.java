@@ -0,0 +1,21 @@
+package com.aura.staffmanager.dto.employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The searchable fields of one employee, as held by the in-memory search index.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSearchDocument {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String position;
+    private Long departmentId;
+    private String departmentName;
+}
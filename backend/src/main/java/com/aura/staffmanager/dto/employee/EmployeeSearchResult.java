@@ -0,0 +1,21 @@
+package com.aura.staffmanager.dto.employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSearchResult {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String position;
+    private Long departmentId;
+    private String departmentName;
+    private double score;
+}
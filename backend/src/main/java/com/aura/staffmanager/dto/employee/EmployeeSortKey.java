@@ -0,0 +1,21 @@
+package com.aura.staffmanager.dto.employee;
+
+/**
+ * Stable sort keys for the employee directory. Every key is paired with the employee id
+ * as a tie-breaker so that keyset pagination never skips or repeats a row.
+ */
+public enum EmployeeSortKey {
+    ID("id"),
+    LAST_NAME("lastName"),
+    HIRE_DATE("hireDate");
+
+    private final String property;
+
+    EmployeeSortKey(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+}
@@ -0,0 +1,28 @@
+package com.aura.staffmanager.dto.export;
+
+import com.aura.staffmanager.entity.LeaveStatus;
+import com.aura.staffmanager.entity.LeaveType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveExportRow {
+    private Long id;
+    private Long employeeId;
+    private String firstName;
+    private String lastName;
+    private String departmentName;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LeaveType type;
+    private LeaveStatus status;
+    private String reason;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
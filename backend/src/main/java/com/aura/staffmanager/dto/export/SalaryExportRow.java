@@ -0,0 +1,27 @@
+package com.aura.staffmanager.dto.export;
+
+import com.aura.staffmanager.entity.SalaryStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryExportRow {
+    private Long id;
+    private Long employeeId;
+    private String firstName;
+    private String lastName;
+    private String departmentName;
+    private YearMonth month;
+    private BigDecimal baseSalary;
+    private BigDecimal bonus;
+    private BigDecimal deductions;
+    private BigDecimal netSalary;
+    private SalaryStatus status;
+    private String comments;
+}
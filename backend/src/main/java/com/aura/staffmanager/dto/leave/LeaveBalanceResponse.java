@@ -0,0 +1,20 @@
+package com.aura.staffmanager.dto.leave;
+
+import com.aura.staffmanager.entity.LeaveType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveBalanceResponse {
+    private Long employeeId;
+    private LeaveType type;
+    private int year;
+    private int entitledDays;
+    private int usedDays;
+    private int remainingDays;
+}
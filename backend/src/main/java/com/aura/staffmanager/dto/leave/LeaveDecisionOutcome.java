@@ -0,0 +1,22 @@
+package com.aura.staffmanager.dto.leave;
+
+import com.aura.staffmanager.entity.LeaveStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveDecisionOutcome {
+    private Long id;
+    private LeaveDecisionResult result;
+
+    /**
+     * The request's status and version after the call, when it exists.
+     */
+    private LeaveStatus status;
+    private Long version;
+}
@@ -0,0 +1,56 @@
+package com.aura.staffmanager.dto.leave;
+
+import com.aura.staffmanager.entity.LeaveStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Approves or rejects pending leave requests in bulk, chosen either by id or by filter.
+ */
+@Data
+public class LeaveDecisionRequest {
+    @NotNull(message = "Status is required")
+    private LeaveStatus status;
+
+    /**
+     * Appended to each decided request's reason, like the single-request update does.
+     */
+    @Size(max = 200, message = "Comment must be at most 200 characters")
+    private String comment;
+
+    /**
+     * Requests to decide. An item with a version is only decided if the request is still at that
+     * version.
+     */
+    @Valid
+    private List<Item> items;
+
+    /**
+     * Decides every pending request matching this filter instead of a list of items.
+     */
+    private Filter filter;
+
+    @Data
+    public static class Item {
+        @NotNull(message = "Id is required")
+        private Long id;
+
+        private Long version;
+    }
+
+    @Data
+    public static class Filter {
+        private Long departmentId;
+
+        /**
+         * Only requests whose leave overlaps [from, to]; either bound may be left open.
+         */
+        private LocalDate from;
+        private LocalDate to;
+    }
+}
@@ -0,0 +1,20 @@
+package com.aura.staffmanager.dto.leave;
+
+import com.aura.staffmanager.entity.LeaveStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveDecisionResponse {
+    private LeaveStatus status;
+    private int decided;
+    private int skipped;
+    private List<LeaveDecisionOutcome> outcomes;
+}
@@ -0,0 +1,10 @@
+package com.aura.staffmanager.dto.leave;
+
+public enum LeaveDecisionResult {
+    DECIDED,
+    NOT_FOUND,
+    NOT_PENDING,
+    VERSION_CONFLICT,
+    /** The comment would make the request's reason longer than it can be stored. */
+    REASON_TOO_LONG
+}
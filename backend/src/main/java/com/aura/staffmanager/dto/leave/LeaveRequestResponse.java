@@ -25,4 +25,5 @@ public class LeaveRequestResponse {
     private String reason;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 } 
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.aura.staffmanager.dto.leave;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class UpdateLeaveEntitlementRequest {
+    @NotNull(message = "Entitled days is required")
+    @Min(value = 0, message = "Entitled days must not be negative")
+    private Integer entitledDays;
+}
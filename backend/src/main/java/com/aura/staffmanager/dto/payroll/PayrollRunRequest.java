@@ -0,0 +1,14 @@
+package com.aura.staffmanager.dto.payroll;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.YearMonth;
+
+@Data
+public class PayrollRunRequest {
+    @NotNull(message = "Month is required")
+    private YearMonth month;
+
+    private Long departmentId;
+}
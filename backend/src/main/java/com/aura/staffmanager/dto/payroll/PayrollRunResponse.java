@@ -0,0 +1,27 @@
+package com.aura.staffmanager.dto.payroll;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRunResponse {
+    private String id;
+    private YearMonth month;
+    private Long departmentId;
+    private PayrollRunState state;
+    private long totalEmployees;
+    private long processed;
+    private long created;
+    private long skipped;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -0,0 +1,7 @@
+package com.aura.staffmanager.dto.payroll;
+
+public enum PayrollRunState {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
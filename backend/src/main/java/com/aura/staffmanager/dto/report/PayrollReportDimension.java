@@ -0,0 +1,7 @@
+package com.aura.staffmanager.dto.report;
+
+public enum PayrollReportDimension {
+    DEPARTMENT,
+    MONTH,
+    STATUS
+}
@@ -0,0 +1,33 @@
+package com.aura.staffmanager.dto.report;
+
+import com.aura.staffmanager.entity.SalaryStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * One group of the payroll report. Dimensions that were not requested are {@code null}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollReportRow {
+    private Long departmentId;
+    private String departmentName;
+    private YearMonth month;
+    private SalaryStatus status;
+    private long count;
+    private BigDecimal totalBaseSalary;
+    private BigDecimal totalBonus;
+    private BigDecimal totalDeductions;
+    private BigDecimal totalNetSalary;
+    private Double averageBaseSalary;
+    private Double averageBonus;
+    private Double averageDeductions;
+    private Double averageNetSalary;
+}
@@ -0,0 +1,26 @@
+package com.aura.staffmanager.dto.salary;
+
+import com.aura.staffmanager.entity.SalaryStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.YearMonth;
+
+/**
+ * Moves every salary of a month that is in {@code fromStatus}, optionally narrowed to one
+ * department, to {@code toStatus}. Only forward moves are allowed: PENDING to PROCESSING or
+ * PAID, and PROCESSING to PAID.
+ */
+@Data
+public class SalaryStatusUpdateRequest {
+    @NotNull(message = "Month is required")
+    private YearMonth month;
+
+    private Long departmentId;
+
+    @NotNull(message = "Current status is required")
+    private SalaryStatus fromStatus;
+
+    @NotNull(message = "Target status is required")
+    private SalaryStatus toStatus;
+}
@@ -0,0 +1,21 @@
+package com.aura.staffmanager.dto.salary;
+
+import com.aura.staffmanager.entity.SalaryStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryStatusUpdateResponse {
+    private YearMonth month;
+    private Long departmentId;
+    private SalaryStatus fromStatus;
+    private SalaryStatus toStatus;
+    private int updated;
+}
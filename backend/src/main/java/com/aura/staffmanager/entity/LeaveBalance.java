@@ -0,0 +1,37 @@
+package com.aura.staffmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Days of leave of one type an employee is entitled to and has used in a calendar year.
+ * {@code usedDays} is maintained incrementally as leave requests enter and leave the
+ * {@link LeaveStatus#APPROVED} state.
+ */
+@Data
+@Entity
+@Table(name = "leave_balances", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_leave_balances_employee_year_type", columnNames = {"employee_id", "year", "type"})
+})
+public class LeaveBalance {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", nullable = false)
+    private Employee employee;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LeaveType type;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(name = "entitled_days", nullable = false)
+    private Integer entitledDays;
+
+    @Column(name = "used_days", nullable = false)
+    private Integer usedDays;
+}
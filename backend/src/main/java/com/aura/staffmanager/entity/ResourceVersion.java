@@ -0,0 +1,23 @@
+package com.aura.staffmanager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * Change counter for one API collection, bumped after every committed write to it. Collection
+ * and item ETags are derived from it, so conditional GETs can be answered without loading rows.
+ */
+@Data
+@Entity
+@Table(name = "resource_versions")
+public class ResourceVersion {
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private Long version;
+}
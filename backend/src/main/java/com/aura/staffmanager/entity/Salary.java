@@ -9,10 +9,13 @@ import com.aura.staffmanager.entity.converter.YearMonthConverter;
 
 @Data
 @Entity
-@Table(name = "salaries")
+@Table(name = "salaries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_salaries_employee_month", columnNames = {"employee_id", "month"})
+})
 public class Salary {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "salaries_seq")
+    @SequenceGenerator(name = "salaries_seq", sequenceName = "salaries_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
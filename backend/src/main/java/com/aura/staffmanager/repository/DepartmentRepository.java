@@ -1,13 +1,21 @@
 package com.aura.staffmanager.repository;
 
 import com.aura.staffmanager.entity.Department;
+import com.aura.staffmanager.repository.projection.DepartmentHeadcount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
     Optional<Department> findByName(String name);
     boolean existsByName(String name);
-} 
\ No newline at end of file
+
+    @Query("SELECT d.id AS id, d.name AS name, d.description AS description, COUNT(e.id) AS employeeCount " +
+           "FROM Department d LEFT JOIN d.employees e " +
+           "GROUP BY d.id, d.name, d.description")
+    List<DepartmentHeadcount> findAllWithHeadcount();
+}
@@ -1,11 +1,67 @@
 package com.aura.staffmanager.repository;
 
+import com.aura.staffmanager.dto.employee.EmployeeSearchDocument;
 import com.aura.staffmanager.entity.Employee;
+import com.aura.staffmanager.entity.EmployeeStatus;
+import com.aura.staffmanager.repository.projection.PayrollCandidate;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
+    @Override
+    @EntityGraph(attributePaths = "department")
+    List<Employee> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "department")
+    Optional<Employee> findById(Long id);
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     Optional<Employee> findByEmail(String email);
+
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "employee-by-user")
+    })
     Optional<Employee> findByUserId(Long userId);
+
+    @Query("SELECT e.id FROM Employee e WHERE e.user.email = :email")
+    Optional<Long> findIdByUserEmail(@Param("email") String email);
+
     boolean existsByEmail(String email);
-} 
\ No newline at end of file
+    long countByDepartmentId(Long departmentId);
+    boolean existsByDepartmentId(Long departmentId);
+
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT e.id AS id, e.salary AS salary FROM Employee e " +
+           "WHERE e.status = :status AND (:departmentId IS NULL OR e.department.id = :departmentId) " +
+           "AND e.id > :afterId ORDER BY e.id")
+    List<PayrollCandidate> findPayrollCandidates(@Param("status") EmployeeStatus status,
+                                                 @Param("departmentId") Long departmentId,
+                                                 @Param("afterId") Long afterId,
+                                                 Limit limit);
+
+    @Query("SELECT COUNT(e) FROM Employee e " +
+           "WHERE e.status = :status AND (:departmentId IS NULL OR e.department.id = :departmentId)")
+    long countPayrollCandidates(@Param("status") EmployeeStatus status,
+                                @Param("departmentId") Long departmentId);
+
+    @Query("SELECT new com.aura.staffmanager.dto.employee.EmployeeSearchDocument(" +
+           "e.id, e.firstName, e.lastName, e.email, e.position, d.id, d.name) " +
+           "FROM Employee e JOIN e.department d")
+    Stream<EmployeeSearchDocument> streamSearchDocuments();
+}
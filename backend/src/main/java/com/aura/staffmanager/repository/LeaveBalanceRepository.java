@@ -0,0 +1,66 @@
+package com.aura.staffmanager.repository;
+
+import com.aura.staffmanager.entity.LeaveBalance;
+import com.aura.staffmanager.entity.LeaveType;
+import com.aura.staffmanager.repository.projection.BalanceDays;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, Long> {
+    List<LeaveBalance> findByEmployeeIdAndYear(Long employeeId, Integer year);
+
+    Optional<LeaveBalance> findByEmployeeIdAndTypeAndYear(Long employeeId, LeaveType type, Integer year);
+
+    /**
+     * Sets the entitlement of one balance, creating it with no used days when it does not exist
+     * yet. Only {@code entitled_days} is written, so used-days changes committed concurrently are
+     * kept, and a concurrent first change cannot make the insert fail on the unique key.
+     */
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "leave_balances"))
+    @Query(value = "INSERT INTO leave_balances (employee_id, type, year, entitled_days, used_days) " +
+                   "VALUES (:employeeId, :type, :year, :entitledDays, 0) " +
+                   "ON CONFLICT (employee_id, year, type) " +
+                   "DO UPDATE SET entitled_days = EXCLUDED.entitled_days " +
+                   "RETURNING entitled_days AS \"entitledDays\", used_days AS \"usedDays\"",
+           nativeQuery = true)
+    BalanceDays setEntitledDays(@Param("employeeId") Long employeeId,
+                                @Param("type") String type,
+                                @Param("year") Integer year,
+                                @Param("entitledDays") Integer entitledDays);
+
+    @Modifying
+    @Query("UPDATE LeaveBalance b SET b.usedDays = 0")
+    int resetUsedDays();
+
+    /**
+     * Adds {@code usedDays[i]} to the balance of ({@code employeeIds[i]}, {@code types[i]},
+     * {@code years[i]}) for every i, creating it with {@code entitledDays[i]} when it does not
+     * exist yet. One statement for any number of balances, and race-free: concurrent first
+     * changes to the same balance cannot both try to insert it. Each balance may appear only
+     * once per call.
+     *
+     * <p>The native-spaces hint tells Hibernate which table this touches; without it a native
+     * update invalidates every second-level cache region.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "leave_balances"))
+    @Query(value = "INSERT INTO leave_balances (employee_id, type, year, entitled_days, used_days) " +
+                   "SELECT * FROM unnest(:employeeIds, :types, :years, :entitledDays, :usedDays) " +
+                   "ON CONFLICT (employee_id, year, type) " +
+                   "DO UPDATE SET used_days = leave_balances.used_days + EXCLUDED.used_days",
+           nativeQuery = true)
+    int addUsedDays(@Param("employeeIds") Long[] employeeIds,
+                    @Param("types") String[] types,
+                    @Param("years") Integer[] years,
+                    @Param("entitledDays") Integer[] entitledDays,
+                    @Param("usedDays") Integer[] usedDays);
+}
@@ -1,12 +1,91 @@
 package com.aura.staffmanager.repository;
 
+import com.aura.staffmanager.dto.export.LeaveExportRow;
 import com.aura.staffmanager.entity.LeaveRequest;
 import com.aura.staffmanager.entity.LeaveStatus;
+import com.aura.staffmanager.repository.projection.ApprovedLeave;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, Long> {
+    @Override
+    @EntityGraph(attributePaths = "employee")
+    List<LeaveRequest> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "employee")
+    Optional<LeaveRequest> findById(Long id);
+
+    @EntityGraph(attributePaths = "employee")
     List<LeaveRequest> findByEmployeeId(Long employeeId);
+
+    @EntityGraph(attributePaths = "employee")
     List<LeaveRequest> findByStatus(LeaveStatus status);
+
+    @Query("SELECT r.employee.id AS employeeId, r.type AS type, r.startDate AS startDate, r.endDate AS endDate " +
+           "FROM LeaveRequest r WHERE r.status = :status")
+    List<ApprovedLeave> findDateRangesByStatus(@Param("status") LeaveStatus status);
+
+    @EntityGraph(attributePaths = "employee")
     List<LeaveRequest> findByEmployeeIdAndStatus(Long employeeId, LeaveStatus status);
-} 
\ No newline at end of file
+
+    boolean existsByIdAndEmployeeUserEmailAndStatus(Long id, String email, LeaveStatus status);
+
+    /**
+     * Leave requests whose [startDate, endDate] interval overlaps [from, to]. Served by the
+     * (end_date, start_date) index: the end_date bound alone excludes all past leave.
+     */
+    @EntityGraph(attributePaths = "employee")
+    @Query("SELECT l FROM LeaveRequest l " +
+           "WHERE l.endDate >= :from AND l.startDate <= :to " +
+           "AND (:departmentId IS NULL OR l.employee.department.id = :departmentId) " +
+           "AND (:status IS NULL OR l.status = :status) " +
+           "ORDER BY l.startDate, l.id")
+    List<LeaveRequest> findOverlapping(@Param("from") LocalDate from,
+                                       @Param("to") LocalDate to,
+                                       @Param("departmentId") Long departmentId,
+                                       @Param("status") LeaveStatus status);
+
+    /**
+     * Ids of requests in {@code status} matching the filter, in id order after {@code afterId},
+     * for walking a bulk decision in chunks.
+     */
+    @Query("SELECT l.id FROM LeaveRequest l " +
+           "WHERE l.status = :status AND l.id > :afterId " +
+           "AND (:departmentId IS NULL OR l.employee.department.id = :departmentId) " +
+           "AND (:from IS NULL OR l.endDate >= :from) " +
+           "AND (:to IS NULL OR l.startDate <= :to) " +
+           "ORDER BY l.id")
+    List<Long> findIdsForDecision(@Param("status") LeaveStatus status,
+                                  @Param("departmentId") Long departmentId,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to,
+                                  @Param("afterId") Long afterId,
+                                  Limit limit);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.aura.staffmanager.dto.export.LeaveExportRow(" +
+           "l.id, e.id, e.firstName, e.lastName, d.name, l.startDate, l.endDate, l.type, l.status, l.reason, " +
+           "l.createdAt, l.updatedAt) " +
+           "FROM LeaveRequest l JOIN l.employee e JOIN e.department d " +
+           "WHERE (:from IS NULL OR l.endDate >= :from) " +
+           "AND (:to IS NULL OR l.startDate <= :to) " +
+           "AND (:departmentId IS NULL OR d.id = :departmentId) " +
+           "AND (:status IS NULL OR l.status = :status) " +
+           "ORDER BY l.id")
+    Stream<LeaveExportRow> streamForExport(@Param("from") LocalDate from,
+                                           @Param("to") LocalDate to,
+                                           @Param("departmentId") Long departmentId,
+                                           @Param("status") LeaveStatus status);
+}
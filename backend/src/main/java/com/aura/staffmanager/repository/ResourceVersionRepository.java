@@ -0,0 +1,18 @@
+package com.aura.staffmanager.repository;
+
+import com.aura.staffmanager.entity.ResourceVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ResourceVersionRepository extends JpaRepository<ResourceVersion, String> {
+    @Query("SELECT r.version FROM ResourceVersion r WHERE r.name = :name")
+    Optional<Long> findVersion(@Param("name") String name);
+
+    @Modifying
+    @Query("UPDATE ResourceVersion r SET r.version = r.version + 1 WHERE r.name = :name")
+    int increment(@Param("name") String name);
+}
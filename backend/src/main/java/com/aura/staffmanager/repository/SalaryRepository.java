@@ -1,15 +1,72 @@
 package com.aura.staffmanager.repository;
 
+import com.aura.staffmanager.dto.export.SalaryExportRow;
 import com.aura.staffmanager.entity.Salary;
+import com.aura.staffmanager.entity.SalaryStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface SalaryRepository extends JpaRepository<Salary, Long> {
+    @Override
+    @EntityGraph(attributePaths = "employee")
+    List<Salary> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "employee")
+    Optional<Salary> findById(Long id);
+
+    @EntityGraph(attributePaths = "employee")
     List<Salary> findByEmployeeId(Long employeeId);
+
     Optional<Salary> findByEmployeeIdAndMonth(Long employeeId, YearMonth month);
+
+    @EntityGraph(attributePaths = "employee")
     List<Salary> findByMonth(YearMonth month);
-} 
\ No newline at end of file
+
+    boolean existsByIdAndEmployeeUserEmail(Long id, String email);
+
+    @Query("SELECT s.employee.id FROM Salary s WHERE s.month = :month AND s.employee.id IN :employeeIds")
+    List<Long> findEmployeeIdsWithSalaryForMonth(@Param("month") YearMonth month,
+                                                 @Param("employeeIds") Collection<Long> employeeIds);
+
+    /**
+     * Moves a month's salaries from {@code fromStatus} to {@code toStatus} in one statement,
+     * served by the (month, status) index.
+     */
+    @Modifying
+    @Query("UPDATE Salary s SET s.status = :toStatus " +
+           "WHERE s.month = :month AND s.status = :fromStatus " +
+           "AND (:departmentId IS NULL OR s.employee.id IN " +
+           "(SELECT e.id FROM Employee e WHERE e.department.id = :departmentId))")
+    int updateStatus(@Param("month") YearMonth month,
+                     @Param("departmentId") Long departmentId,
+                     @Param("fromStatus") SalaryStatus fromStatus,
+                     @Param("toStatus") SalaryStatus toStatus);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.aura.staffmanager.dto.export.SalaryExportRow(" +
+           "s.id, e.id, e.firstName, e.lastName, d.name, s.month, s.baseSalary, s.bonus, s.deductions, " +
+           "s.netSalary, s.status, s.comments) " +
+           "FROM Salary s JOIN s.employee e JOIN e.department d " +
+           "WHERE (:month IS NULL OR s.month = :month) " +
+           "AND (:departmentId IS NULL OR d.id = :departmentId) " +
+           "AND (:status IS NULL OR s.status = :status) " +
+           "ORDER BY s.id")
+    Stream<SalaryExportRow> streamForExport(@Param("month") YearMonth month,
+                                            @Param("departmentId") Long departmentId,
+                                            @Param("status") SalaryStatus status);
+}
@@ -1,10 +1,19 @@
 package com.aura.staffmanager.repository;
 
 import com.aura.staffmanager.entity.User;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 public interface UserRepository extends JpaRepository<User, Long> {
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "user-by-email")
+    })
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
 } 
\ No newline at end of file
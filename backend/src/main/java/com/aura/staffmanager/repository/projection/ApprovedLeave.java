@@ -0,0 +1,12 @@
+package com.aura.staffmanager.repository.projection;
+
+import com.aura.staffmanager.entity.LeaveType;
+
+import java.time.LocalDate;
+
+public interface ApprovedLeave {
+    Long getEmployeeId();
+    LeaveType getType();
+    LocalDate getStartDate();
+    LocalDate getEndDate();
+}
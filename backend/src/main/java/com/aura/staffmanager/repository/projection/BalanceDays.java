@@ -0,0 +1,6 @@
+package com.aura.staffmanager.repository.projection;
+
+public interface BalanceDays {
+    Integer getEntitledDays();
+    Integer getUsedDays();
+}
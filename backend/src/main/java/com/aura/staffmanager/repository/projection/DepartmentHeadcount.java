@@ -0,0 +1,8 @@
+package com.aura.staffmanager.repository.projection;
+
+public interface DepartmentHeadcount {
+    Long getId();
+    String getName();
+    String getDescription();
+    long getEmployeeCount();
+}
@@ -0,0 +1,6 @@
+package com.aura.staffmanager.repository.projection;
+
+public interface PayrollCandidate {
+    Long getId();
+    Double getSalary();
+}
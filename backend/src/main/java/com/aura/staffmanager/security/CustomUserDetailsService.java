@@ -1,21 +1,82 @@
 package com.aura.staffmanager.security;
 
+import com.aura.staffmanager.entity.User;
 import com.aura.staffmanager.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    /**
+     * Principals resolved by email. Entries are dropped on TTL, on size pressure, or explicitly
+     * through {@link #evict(User)} whenever a user row is written.
+     */
+    private final Cache<String, User> userCache;
+
+    /**
+     * The email each cached user is cached under, so an eviction by id finds the entry under the
+     * previous email after an email change without scanning the cache.
+     */
+    private final ConcurrentMap<Long, String> cachedEmailById = new ConcurrentHashMap<>();
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${auth.user-cache.max-size:10000}") long maxSize,
+                                    @Value("${auth.user-cache.ttl:PT5M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .<String, User>removalListener((email, user, cause) -> {
+                    if (user != null && user.getId() != null) {
+                        cachedEmailById.remove(user.getId(), email);
+                    }
+                })
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache, "userDetails");
+    }
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
+        User cached = userCache.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+
+        User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        userCache.put(email, user);
+        if (user.getId() != null) {
+            cachedEmailById.put(user.getId(), email);
+        }
+        return user;
+    }
+
+    public void evict(User user) {
+        if (user.getEmail() != null) {
+            userCache.invalidate(user.getEmail());
+        }
+        if (user.getId() != null) {
+            // Catches the entry cached under the previous email when the email itself changed.
+            String cachedEmail = cachedEmailById.remove(user.getId());
+            if (cachedEmail != null) {
+                userCache.invalidate(cachedEmail);
+            }
+        }
     }
-} 
\ No newline at end of file
+}
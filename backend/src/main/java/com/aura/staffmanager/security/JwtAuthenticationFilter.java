@@ -1,5 +1,8 @@
 package com.aura.staffmanager.security;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,6 +20,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Component
@@ -26,24 +31,48 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserDetailsService userDetailsService) {
+    /**
+     * Time spent in this filter itself, excluding the rest of the chain, by outcome.
+     */
+    private final Timer authenticatedTimer;
+    private final Timer anonymousTimer;
+    private final Timer rejectedTimer;
+
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserDetailsService userDetailsService,
+                                   MeterRegistry meterRegistry) {
         this.tokenProvider = tokenProvider;
         this.userDetailsService = userDetailsService;
+        this.authenticatedTimer = authTimer(meterRegistry, "authenticated");
+        this.anonymousTimer = authTimer(meterRegistry, "anonymous");
+        this.rejectedTimer = authTimer(meterRegistry, "rejected");
+    }
+
+    private static Timer authTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.filter")
+                .description("JWT authentication filter time, excluding downstream processing")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
+        long start = System.nanoTime();
+        Timer outcome = anonymousTimer;
         try {
             String jwt = getJwtFromRequest(request);
             logger.debug("Processing request: {} with JWT: {}", request.getRequestURI(), jwt != null ? "present" : "absent");
-            logger.debug("Request headers: {}", Collections.list(request.getHeaderNames()).stream()
-                    .collect(Collectors.toMap(name -> name, request::getHeader)));
+            if (logger.isDebugEnabled()) {
+                logger.debug("Request headers: {}", Collections.list(request.getHeaderNames()).stream()
+                        .collect(Collectors.toMap(name -> name, request::getHeader)));
+            }
 
             if (StringUtils.hasText(jwt)) {
                 logger.debug("JWT token found, attempting validation");
-                if (tokenProvider.validateToken(jwt)) {
-                    String username = tokenProvider.getUsernameFromToken(jwt);
+                Optional<Claims> claims = tokenProvider.parseValidToken(jwt);
+                if (claims.isPresent()) {
+                    String username = claims.get().getSubject();
                     logger.debug("Valid JWT token for user: {}", username);
                     
                     UserDetails userDetails = userDetailsService.loadUserByUsername(username);
@@ -55,10 +84,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                     logger.debug("Authentication set in SecurityContext for user: {}", username);
+                    outcome = authenticatedTimer;
                 } else {
                     logger.debug("JWT token validation failed");
                     response.setStatus(HttpServletResponse.SC_FORBIDDEN);
                     response.getWriter().write("Invalid JWT token");
+                    rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
                     return;
                 }
             } else {
@@ -68,9 +99,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             logger.error("Could not set user authentication in security context", ex);
             response.setStatus(HttpServletResponse.SC_FORBIDDEN);
             response.getWriter().write("Authentication failed: " + ex.getMessage());
+            rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             return;
         }
 
+        outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         filterChain.doFilter(request, response);
     }
 
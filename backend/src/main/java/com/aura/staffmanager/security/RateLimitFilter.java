@@ -0,0 +1,77 @@
+package com.aura.staffmanager.security;
+
+import com.aura.staffmanager.config.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client rate limits for the route groups in {@link RateLimitProperties}. Runs right after
+ * {@link JwtAuthenticationFilter}, so signed-in requests are limited per user and anonymous ones,
+ * such as logins, per client IP. A limited request gets 429 with Retry-After and never reaches
+ * the controllers.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final List<RateLimitGroup> groups;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.groups = properties.getGroups().entrySet().stream()
+                .map(entry -> new RateLimitGroup(entry.getKey(), entry.getValue(), properties.getMaxClients(),
+                        meterRegistry))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || groups.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String client = null;
+        for (RateLimitGroup group : groups) {
+            if (!group.matches(request)) {
+                continue;
+            }
+            if (client == null) {
+                client = clientKey(request);
+            }
+            long waitNanos = group.tryAcquire(client);
+            if (waitNanos > 0) {
+                long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                response.getWriter().write("Too many requests, retry in " + retryAfterSeconds + "s");
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        return request.getRemoteAddr();
+    }
+}
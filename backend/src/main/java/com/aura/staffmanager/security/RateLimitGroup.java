@@ -0,0 +1,93 @@
+package com.aura.staffmanager.security;
+
+import com.aura.staffmanager.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets for one route group, one per client.
+ *
+ * <p>Each bucket is a single {@link AtomicLong} holding the time at which it will be full again
+ * (the generic cell rate algorithm). Taking a token is one compare-and-set that pushes that time
+ * forward by one refill interval; the request is refused if doing so would put it more than a
+ * whole bucket ahead of now. An idle bucket is full again after one period, so evicting it then
+ * loses nothing.
+ */
+class RateLimitGroup {
+
+    private final String name;
+    private final RequestMatcher matcher;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final Cache<String, AtomicLong> buckets;
+    private final Function<String, AtomicLong> newBucket;
+    private final Counter rejected;
+    private final LongSupplier nanoClock;
+
+    RateLimitGroup(String name, RateLimitProperties.Group group, long maxClients, MeterRegistry meterRegistry) {
+        this(name, group, maxClients, meterRegistry, System::nanoTime);
+    }
+
+    RateLimitGroup(String name, RateLimitProperties.Group group, long maxClients, MeterRegistry meterRegistry,
+                   LongSupplier nanoClock) {
+        if (group.getCapacity() < 1 || group.getPeriod().isZero() || group.getPeriod().isNegative()) {
+            throw new IllegalArgumentException("Rate limit group " + name + " needs a positive capacity and period");
+        }
+        this.name = name;
+        this.matcher = new OrRequestMatcher(group.getPaths().stream()
+                .map(path -> (RequestMatcher) AntPathRequestMatcher.antMatcher(path))
+                .toList());
+        this.intervalNanos = group.getPeriod().toNanos() / group.getCapacity();
+        this.burstNanos = intervalNanos * group.getCapacity();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(group.getPeriod())
+                .build();
+        this.nanoClock = nanoClock;
+        this.newBucket = client -> new AtomicLong(nanoClock.getAsLong());
+        this.rejected = Counter.builder("rate.limit.rejected")
+                .description("Requests refused by the rate limiter")
+                .tag("group", name)
+                .register(meterRegistry);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    boolean matches(HttpServletRequest request) {
+        return matcher.matches(request);
+    }
+
+    /**
+     * Takes a token from the client's bucket.
+     *
+     * @return 0 if the request may proceed, otherwise the nanoseconds until a token is available
+     */
+    long tryAcquire(String client) {
+        AtomicLong bucket = buckets.get(client, newBucket);
+        long now = nanoClock.getAsLong();
+        while (true) {
+            long fullAt = bucket.get();
+            long next = Math.max(fullAt, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                rejected.increment();
+                return wait;
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.aura.staffmanager.security;
+
+import com.aura.staffmanager.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the principal cache in {@link CustomUserDetailsService} consistent with the users table.
+ * The entry is evicted immediately and again after commit, so a concurrent request cannot re-cache
+ * the pre-commit row.
+ */
+@Component
+public class UserCacheInvalidationListener {
+
+    private final CustomUserDetailsService userDetailsService;
+
+    public UserCacheInvalidationListener(@Lazy CustomUserDetailsService userDetailsService) {
+        this.userDetailsService = userDetailsService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        userDetailsService.evict(user);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userDetailsService.evict(user);
+                }
+            });
+        }
+    }
+}
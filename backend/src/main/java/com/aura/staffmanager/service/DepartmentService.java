@@ -5,6 +5,8 @@ import com.aura.staffmanager.dto.department.DepartmentResponse;
 import com.aura.staffmanager.entity.Department;
 import com.aura.staffmanager.exception.ResourceNotFoundException;
 import com.aura.staffmanager.repository.DepartmentRepository;
+import com.aura.staffmanager.repository.EmployeeRepository;
+import com.aura.staffmanager.repository.projection.DepartmentHeadcount;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,13 +20,18 @@ import java.util.stream.Collectors;
 public class DepartmentService {
 
     private final DepartmentRepository departmentRepository;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeSearchIndex employeeSearchIndex;
+    private final ResourceVersionService resourceVersionService;
 
+    @Transactional(readOnly = true)
     public List<DepartmentResponse> getAllDepartments() {
-        return departmentRepository.findAll().stream()
+        return departmentRepository.findAllWithHeadcount().stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public DepartmentResponse getDepartmentById(Long id) {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + id));
@@ -49,7 +56,8 @@ public class DepartmentService {
                 .build();
 
         Department savedDepartment = departmentRepository.save(department);
-        return mapToResponse(savedDepartment);
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.DEPARTMENTS);
+        return mapToResponse(savedDepartment, 0);
     }
 
     @Transactional
@@ -62,8 +70,14 @@ public class DepartmentService {
             throw new RuntimeException("Department with this name already exists");
         }
 
+        boolean renamed = !department.getName().equals(request.getName());
         department.setName(request.getName());
         department.setDescription(request.getDescription());
+        if (renamed) {
+            employeeSearchIndex.renameDepartmentAfterCommit(id, request.getName());
+            resourceVersionService.bumpAfterCommit(ResourceVersionService.EMPLOYEES);
+        }
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.DEPARTMENTS);
 
         Department updatedDepartment = departmentRepository.save(department);
         return mapToResponse(updatedDepartment);
@@ -74,19 +88,33 @@ public class DepartmentService {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Department not found"));
 
-        if (!department.getEmployees().isEmpty()) {
+        if (employeeRepository.existsByDepartmentId(id)) {
             throw new RuntimeException("Cannot delete department with assigned employees");
         }
 
         departmentRepository.delete(department);
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.DEPARTMENTS);
     }
 
     private DepartmentResponse mapToResponse(Department department) {
+        return mapToResponse(department, employeeRepository.countByDepartmentId(department.getId()));
+    }
+
+    private DepartmentResponse mapToResponse(Department department, long employeeCount) {
         return DepartmentResponse.builder()
                 .id(department.getId())
                 .name(department.getName())
                 .description(department.getDescription())
-                .employeeCount(department.getEmployees().size())
+                .employeeCount((int) employeeCount)
+                .build();
+    }
+
+    private DepartmentResponse mapToResponse(DepartmentHeadcount headcount) {
+        return DepartmentResponse.builder()
+                .id(headcount.getId())
+                .name(headcount.getName())
+                .description(headcount.getDescription())
+                .employeeCount((int) headcount.getEmployeeCount())
                 .build();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,345 @@
+package com.aura.staffmanager.service;
+
+import com.aura.staffmanager.dto.employee.CreateEmployeeRequest;
+import com.aura.staffmanager.dto.employee.EmployeeImportResponse;
+import com.aura.staffmanager.dto.employee.EmployeeSearchDocument;
+import com.aura.staffmanager.entity.Department;
+import com.aura.staffmanager.entity.Employee;
+import com.aura.staffmanager.entity.EmployeeStatus;
+import com.aura.staffmanager.repository.DepartmentRepository;
+import com.aura.staffmanager.repository.EmployeeRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports employees from a CSV upload. The file is parsed one record at a time, each row is
+ * validated against the {@link CreateEmployeeRequest} constraints, and valid rows are inserted
+ * in chunks, each chunk in its own transaction with JDBC batching. Only the current chunk and
+ * the (capped) error report are held in memory.
+ *
+ * <p>The header row names the columns: firstName, lastName, email, phone, departmentId or
+ * department (by name), position, hireDate (ISO date), salary, address and status.
+ */
+@Service
+public class EmployeeImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeImportService.class);
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final Validator validator;
+    private final EmployeeSearchIndex employeeSearchIndex;
+    private final ResourceVersionService resourceVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public EmployeeImportService(EmployeeRepository employeeRepository,
+                                 DepartmentRepository departmentRepository,
+                                 Validator validator,
+                                 EmployeeSearchIndex employeeSearchIndex,
+                                 ResourceVersionService resourceVersionService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${employee-import.chunk-size:500}") int chunkSize) {
+        this.employeeRepository = employeeRepository;
+        this.departmentRepository = departmentRepository;
+        this.validator = validator;
+        this.employeeSearchIndex = employeeSearchIndex;
+        this.resourceVersionService = resourceVersionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public EmployeeImportResponse importCsv(InputStream input) throws IOException {
+        ImportReport report = new ImportReport();
+        Map<Long, String> departmentsById = new HashMap<>();
+        Map<String, Long> departmentIdsByName = new HashMap<>();
+        for (Department department : departmentRepository.findAll()) {
+            departmentsById.put(department.getId(), department.getName());
+            departmentIdsByName.put(department.getName().toLowerCase(Locale.ROOT), department.getId());
+        }
+
+        CsvRecordReader reader = new CsvRecordReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+        List<String> header = reader.next();
+        if (header == null) {
+            return report.toResponse();
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+
+        List<PendingRow> chunk = new ArrayList<>(chunkSize);
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            report.totalRows++;
+            long line = reader.getRecordLine();
+
+            List<String> errors = new ArrayList<>();
+            CreateEmployeeRequest request = toRequest(record, columns, departmentsById, departmentIdsByName, errors);
+            for (ConstraintViolation<CreateEmployeeRequest> violation : validator.validate(request)) {
+                errors.add(violation.getMessage());
+            }
+            if (!errors.isEmpty()) {
+                report.fail(line, request.getEmail(), errors);
+                continue;
+            }
+
+            chunk.add(new PendingRow(line, request));
+            if (chunk.size() >= chunkSize) {
+                writeChunk(chunk, departmentsById, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, departmentsById, report);
+        }
+
+        logger.info("Employee import finished: {} rows, {} imported, {} failed",
+                report.totalRows, report.imported, report.failed);
+        return report.toResponse();
+    }
+
+    private void writeChunk(List<PendingRow> chunk, Map<Long, String> departmentsById, ImportReport report) {
+        List<PendingRow> rejected;
+        try {
+            rejected = transactionTemplate.execute(status -> {
+                Set<String> taken = new HashSet<>(employeeRepository.findExistingEmails(
+                        chunk.stream().map(row -> row.request.getEmail()).collect(Collectors.toList())));
+
+                List<Employee> employees = new ArrayList<>(chunk.size());
+                List<PendingRow> duplicates = new ArrayList<>();
+                for (PendingRow row : chunk) {
+                    if (!taken.add(row.request.getEmail())) {
+                        duplicates.add(row);
+                        continue;
+                    }
+                    employees.add(toEmployee(row.request));
+                }
+                employeeRepository.saveAll(employees);
+                for (Employee employee : employees) {
+                    Long departmentId = employee.getDepartment().getId();
+                    employeeSearchIndex.upsertAfterCommit(new EmployeeSearchDocument(employee.getId(),
+                            employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                            employee.getPosition(), departmentId, departmentsById.get(departmentId)));
+                }
+                resourceVersionService.bumpAfterCommit(ResourceVersionService.EMPLOYEES, ResourceVersionService.DEPARTMENTS);
+                return duplicates;
+            });
+        } catch (DataAccessException e) {
+            logger.warn("Employee import chunk starting at line {} failed", chunk.get(0).line, e);
+            for (PendingRow row : chunk) {
+                report.fail(row.line, row.request.getEmail(), List.of("Could not be saved: " + e.getMostSpecificCause().getMessage()));
+            }
+            return;
+        }
+
+        report.imported += chunk.size() - rejected.size();
+        for (PendingRow row : rejected) {
+            report.fail(row.line, row.request.getEmail(), List.of("Email already exists"));
+        }
+    }
+
+    private Employee toEmployee(CreateEmployeeRequest request) {
+        Employee employee = new Employee();
+        employee.setFirstName(request.getFirstName());
+        employee.setLastName(request.getLastName());
+        employee.setEmail(request.getEmail());
+        employee.setPhone(request.getPhone());
+        employee.setDepartment(departmentRepository.getReferenceById(request.getDepartmentId()));
+        employee.setPosition(request.getPosition());
+        employee.setHireDate(request.getHireDate());
+        employee.setSalary(request.getSalary());
+        employee.setAddress(request.getAddress());
+        employee.setStatus(request.getStatus());
+        return employee;
+    }
+
+    private CreateEmployeeRequest toRequest(List<String> record, Map<String, Integer> columns,
+                                            Map<Long, String> departmentsById, Map<String, Long> departmentIdsByName,
+                                            List<String> errors) {
+        CreateEmployeeRequest request = new CreateEmployeeRequest();
+        request.setFirstName(field(record, columns, "firstName"));
+        request.setLastName(field(record, columns, "lastName"));
+        request.setEmail(field(record, columns, "email"));
+        request.setPhone(field(record, columns, "phone"));
+        request.setPosition(field(record, columns, "position"));
+        request.setAddress(field(record, columns, "address"));
+
+        String departmentId = field(record, columns, "departmentId");
+        String departmentName = field(record, columns, "department");
+        if (departmentId != null) {
+            try {
+                Long id = Long.valueOf(departmentId);
+                if (departmentsById.containsKey(id)) {
+                    request.setDepartmentId(id);
+                } else {
+                    errors.add("Unknown department id: " + departmentId);
+                }
+            } catch (NumberFormatException e) {
+                errors.add("Invalid department id: " + departmentId);
+            }
+        } else if (departmentName != null) {
+            Long id = departmentIdsByName.get(departmentName.toLowerCase(Locale.ROOT));
+            if (id != null) {
+                request.setDepartmentId(id);
+            } else {
+                errors.add("Unknown department: " + departmentName);
+            }
+        }
+
+        String hireDate = field(record, columns, "hireDate");
+        if (hireDate != null) {
+            try {
+                request.setHireDate(LocalDate.parse(hireDate));
+            } catch (DateTimeParseException e) {
+                errors.add("Invalid hire date: " + hireDate);
+            }
+        }
+
+        String salary = field(record, columns, "salary");
+        if (salary != null) {
+            try {
+                request.setSalary(Double.valueOf(salary));
+            } catch (NumberFormatException e) {
+                errors.add("Invalid salary: " + salary);
+            }
+        }
+
+        String status = field(record, columns, "status");
+        if (status != null) {
+            try {
+                request.setStatus(EmployeeStatus.valueOf(status.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                errors.add("Invalid status: " + status);
+            }
+        }
+        return request;
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private record PendingRow(long line, CreateEmployeeRequest request) {
+    }
+
+    private static class ImportReport {
+        private long totalRows;
+        private long imported;
+        private long failed;
+        private final List<EmployeeImportResponse.RowError> errors = new ArrayList<>();
+
+        private void fail(long line, String email, List<String> messages) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(EmployeeImportResponse.RowError.builder()
+                        .line(line)
+                        .email(email)
+                        .messages(messages)
+                        .build());
+            }
+        }
+
+        private EmployeeImportResponse toResponse() {
+            return EmployeeImportResponse.builder()
+                    .totalRows(totalRows)
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+    }
+
+    /**
+     * Minimal RFC 4180 reader: comma separated, double-quoted fields may contain commas, doubled
+     * quotes and line breaks.
+     */
+    private static class CsvRecordReader {
+        private final BufferedReader reader;
+        private long line;
+        private long recordLine;
+
+        private CsvRecordReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        private long getRecordLine() {
+            return recordLine;
+        }
+
+        private List<String> next() throws IOException {
+            String text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            recordLine = ++line;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                for (int i = 0; i < text.length(); i++) {
+                    char c = text.charAt(i);
+                    if (quoted) {
+                        if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else if (c == '"') {
+                            quoted = false;
+                        } else {
+                            field.append(c);
+                        }
+                    } else if (c == '"') {
+                        quoted = true;
+                    } else if (c == ',') {
+                        fields.add(field.toString());
+                        field.setLength(0);
+                    } else {
+                        field.append(c);
+                    }
+                }
+                if (!quoted || (text = reader.readLine()) == null) {
+                    break;
+                }
+                line++;
+                field.append('\n');
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,446 @@
+package com.aura.staffmanager.service;
+
+import com.aura.staffmanager.dto.employee.EmployeeSearchDocument;
+import com.aura.staffmanager.dto.employee.EmployeeSearchResult;
+import com.aura.staffmanager.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory trigram index over employee first name, last name, email, position and department
+ * name. Every word is indexed as the trigrams of the word padded with two leading markers, so a
+ * typed prefix shares all of its trigrams with the words it starts, and a misspelt word still
+ * shares most of them. The index is built at startup and kept current by {@link EmployeeService},
+ * {@link EmployeeImportService} and {@link DepartmentService} after their transactions commit.
+ */
+@Component
+public class EmployeeSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSearchIndex.class);
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final double MIN_TOKEN_SCORE = 0.5;
+    private static final double NAME_PREFIX_BONUS = 0.5;
+    private static final double OTHER_PREFIX_BONUS = 0.25;
+    private static final double EXACT_NAME_BONUS = 0.25;
+    private static final Comparator<Ranked> RANKING = Comparator.comparingDouble(Ranked::score)
+            .thenComparing(ranked -> ranked.entry.document.getId(), Comparator.reverseOrder());
+
+    private final EmployeeRepository employeeRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Posting> postings = new HashMap<>();
+    private List<Entry> entries = new ArrayList<>();
+    private Map<Long, Integer> slotById = new HashMap<>();
+    private Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    public EmployeeSearchIndex(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<String, Posting> newPostings = new HashMap<>();
+        List<Entry> newEntries = new ArrayList<>();
+        Map<Long, Integer> newSlotById = new HashMap<>();
+        try (Stream<EmployeeSearchDocument> documents = employeeRepository.streamSearchDocuments()) {
+            documents.forEach(document -> {
+                int slot = newEntries.size();
+                Entry entry = new Entry(document);
+                newEntries.add(entry);
+                newSlotById.put(document.getId(), slot);
+                for (String gram : entry.grams) {
+                    newPostings.computeIfAbsent(gram, g -> new Posting()).add(slot);
+                }
+            });
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            entries = newEntries;
+            slotById = newSlotById;
+            freeSlots = new ArrayDeque<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Employee search index built with {} employees and {} trigrams", newEntries.size(), newPostings.size());
+    }
+
+    /**
+     * Returns up to {@code limit} employees matching every word of the query, best match first.
+     */
+    public List<EmployeeSearchResult> search(String query, int limit) {
+        List<String> tokens = words(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Matches matches = null;
+            for (int t = 0; t < tokens.size(); t++) {
+                Set<String> grams = grams(tokens.get(t));
+                List<Posting> hits = new ArrayList<>(grams.size());
+                for (String gram : grams) {
+                    Posting posting = postings.get(gram);
+                    if (posting != null) {
+                        hits.add(posting);
+                    }
+                }
+                if (t == 0) {
+                    // Only employees matching the first word can match them all, so this bounds
+                    // the work and memory of the whole query by the first word's postings
+                    int capacity = 0;
+                    for (Posting posting : hits) {
+                        capacity += posting.size;
+                    }
+                    matches = new Matches(capacity);
+                }
+                for (Posting posting : hits) {
+                    int[] slots = posting.slots;
+                    for (int i = 0; i < posting.size; i++) {
+                        matches.countGram(slots[i], t);
+                    }
+                }
+                if (matches.scoreToken(t, grams.size()) == 0) {
+                    return List.of();
+                }
+            }
+
+            PriorityQueue<Ranked> top = new PriorityQueue<>(limit + 1, RANKING);
+            for (int i = 0; i < matches.count; i++) {
+                if (matches.matchedTokens[i] != tokens.size()) {
+                    continue;
+                }
+                Entry entry = entries.get(matches.slots[i]);
+                Ranked ranked = new Ranked(entry, matches.scores[i] + entry.bonus(tokens));
+                if (top.size() < limit) {
+                    top.add(ranked);
+                } else if (RANKING.compare(ranked, top.peek()) > 0) {
+                    top.poll();
+                    top.add(ranked);
+                }
+            }
+
+            List<EmployeeSearchResult> results = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                results.add(top.poll().toResult());
+            }
+            Collections.reverse(results);
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void upsertAfterCommit(EmployeeSearchDocument document) {
+        afterCommit(() -> upsert(document));
+    }
+
+    public void removeAfterCommit(Long employeeId) {
+        afterCommit(() -> remove(employeeId));
+    }
+
+    public void renameDepartmentAfterCommit(Long departmentId, String departmentName) {
+        afterCommit(() -> renameDepartment(departmentId, departmentName));
+    }
+
+    void upsert(EmployeeSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.getId());
+            Entry entry = new Entry(document);
+            Integer slot = freeSlots.poll();
+            if (slot == null) {
+                slot = entries.size();
+                entries.add(entry);
+            } else {
+                entries.set(slot, entry);
+            }
+            slotById.put(document.getId(), slot);
+            for (String gram : entry.grams) {
+                postings.computeIfAbsent(gram, g -> new Posting()).add(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long employeeId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(employeeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void renameDepartment(Long departmentId, String departmentName) {
+        List<EmployeeSearchDocument> affected = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Entry entry : entries) {
+                if (entry != null && departmentId.equals(entry.document.getDepartmentId())) {
+                    affected.add(entry.document);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (EmployeeSearchDocument document : affected) {
+            upsert(new EmployeeSearchDocument(document.getId(), document.getFirstName(), document.getLastName(),
+                    document.getEmail(), document.getPosition(), departmentId, departmentName));
+        }
+    }
+
+    private void removeLocked(Long employeeId) {
+        Integer slot = slotById.remove(employeeId);
+        if (slot == null) {
+            return;
+        }
+        Entry entry = entries.get(slot);
+        for (String gram : entry.grams) {
+            Posting posting = postings.get(gram);
+            if (posting != null && posting.remove(slot) && posting.size == 0) {
+                postings.remove(gram);
+            }
+        }
+        entries.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static Set<String> grams(String word) {
+        String padded = "^^" + word;
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private static final class Entry {
+        private final EmployeeSearchDocument document;
+        private final String[] nameWords;
+        private final String[] otherWords;
+        private final String[] grams;
+
+        private Entry(EmployeeSearchDocument document) {
+            this.document = document;
+            List<String> names = new ArrayList<>(words(document.getFirstName()));
+            names.addAll(words(document.getLastName()));
+            List<String> others = new ArrayList<>(words(document.getEmail()));
+            others.addAll(words(document.getPosition()));
+            others.addAll(words(document.getDepartmentName()));
+            this.nameWords = names.toArray(new String[0]);
+            this.otherWords = others.toArray(new String[0]);
+
+            Set<String> allGrams = new LinkedHashSet<>();
+            for (String word : nameWords) {
+                allGrams.addAll(grams(word));
+            }
+            for (String word : otherWords) {
+                allGrams.addAll(grams(word));
+            }
+            this.grams = allGrams.toArray(new String[0]);
+        }
+
+        private double bonus(List<String> tokens) {
+            double bonus = 0;
+            for (String token : tokens) {
+                if (contains(nameWords, token)) {
+                    bonus += NAME_PREFIX_BONUS + EXACT_NAME_BONUS;
+                } else if (startsWith(nameWords, token)) {
+                    bonus += NAME_PREFIX_BONUS;
+                } else if (startsWith(otherWords, token)) {
+                    bonus += OTHER_PREFIX_BONUS;
+                }
+            }
+            return bonus;
+        }
+
+        private static boolean contains(String[] words, String token) {
+            for (String word : words) {
+                if (word.equals(token)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean startsWith(String[] words, String token) {
+            for (String word : words) {
+                if (word.startsWith(token)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Ranked(Entry entry, double score) {
+        private EmployeeSearchResult toResult() {
+            EmployeeSearchDocument document = entry.document;
+            return EmployeeSearchResult.builder()
+                    .id(document.getId())
+                    .firstName(document.getFirstName())
+                    .lastName(document.getLastName())
+                    .email(document.getEmail())
+                    .position(document.getPosition())
+                    .departmentId(document.getDepartmentId())
+                    .departmentName(document.getDepartmentName())
+                    .score(score)
+                    .build();
+        }
+    }
+
+    /**
+     * Per-query state of the employees the first word hits, in an open-addressing table keyed by
+     * slot, so a query allocates in proportion to its matches rather than to the whole index.
+     */
+    private static final class Matches {
+        private final int[] table;
+        private final int mask;
+        private final int[] slots;
+        private final double[] scores;
+        private final int[] matchedTokens;
+        private final int[] gramCounts;
+        private int count;
+
+        private Matches(int capacity) {
+            // At most half full, so probe sequences stay short
+            int tableSize = Integer.highestOneBit(Math.max(1, capacity) * 2) * 2;
+            this.table = new int[tableSize];
+            this.mask = tableSize - 1;
+            this.slots = new int[capacity];
+            this.scores = new double[capacity];
+            this.matchedTokens = new int[capacity];
+            this.gramCounts = new int[capacity];
+        }
+
+        /**
+         * Counts a gram of word {@code t} for the slot if it matched every earlier word. Only the
+         * first word adds slots.
+         */
+        private void countGram(int slot, int t) {
+            int hash = slot * 0x9E3779B9;
+            int bucket = (hash ^ hash >>> 16) & mask;
+            int index;
+            while ((index = table[bucket] - 1) >= 0 && slots[index] != slot) {
+                bucket = (bucket + 1) & mask;
+            }
+            if (index < 0) {
+                if (t > 0) {
+                    return;
+                }
+                index = count++;
+                slots[index] = slot;
+                table[bucket] = index + 1;
+            }
+            if (matchedTokens[index] == t) {
+                gramCounts[index]++;
+            }
+        }
+
+        /**
+         * Scores word {@code t} for every slot still in the running and returns how many match it.
+         */
+        private int scoreToken(int t, int gramCount) {
+            int matched = 0;
+            for (int i = 0; i < count; i++) {
+                if (matchedTokens[i] != t) {
+                    continue;
+                }
+                double tokenScore = (double) gramCounts[i] / gramCount;
+                gramCounts[i] = 0;
+                if (tokenScore >= MIN_TOKEN_SCORE) {
+                    matchedTokens[i]++;
+                    scores[i] += tokenScore;
+                    matched++;
+                }
+            }
+            return matched;
+        }
+    }
+
+    /**
+     * Sorted, growable list of slots containing one trigram.
+     */
+    private static final class Posting {
+        private int[] slots = new int[4];
+        private int size;
+
+        private void add(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index >= 0) {
+                return;
+            }
+            index = -index - 1;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, index, slots, index + 1, size - index);
+            slots[index] = slot;
+            size++;
+        }
+
+        private boolean remove(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
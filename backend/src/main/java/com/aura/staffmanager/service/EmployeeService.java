@@ -1,19 +1,30 @@
 package com.aura.staffmanager.service;
 
 import com.aura.staffmanager.dto.employee.CreateEmployeeRequest;
+import com.aura.staffmanager.dto.employee.EmployeePageResponse;
 import com.aura.staffmanager.dto.employee.EmployeeResponse;
+import com.aura.staffmanager.dto.employee.EmployeeSearchDocument;
+import com.aura.staffmanager.dto.employee.EmployeeSearchResult;
+import com.aura.staffmanager.dto.employee.EmployeeSortKey;
 import com.aura.staffmanager.dto.employee.UpdateEmployeeRequest;
 import com.aura.staffmanager.entity.Department;
 import com.aura.staffmanager.entity.Employee;
 import com.aura.staffmanager.entity.EmployeeStatus;
 import com.aura.staffmanager.entity.User;
+import com.aura.staffmanager.exception.InvalidCursorException;
 import com.aura.staffmanager.exception.ResourceNotFoundException;
 import com.aura.staffmanager.repository.EmployeeRepository;
 import com.aura.staffmanager.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,13 +35,65 @@ public class EmployeeService {
     private final EmployeeRepository employeeRepository;
     private final UserRepository userRepository;
     private final DepartmentService departmentService;
+    private final EmployeeSearchIndex employeeSearchIndex;
+    private final ResourceVersionService resourceVersionService;
 
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int MAX_SEARCH_RESULTS = 50;
+
+    @Transactional(readOnly = true)
     public List<EmployeeResponse> getAllEmployees() {
         return employeeRepository.findAll().stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns one page of the employee directory using keyset pagination. The cursor is the
+     * opaque token returned as {@code nextCursor} by the previous page; every page is a bounded
+     * range scan on (sort key, id), so late pages cost the same as the first one.
+     */
+    @Transactional(readOnly = true)
+    public EmployeePageResponse getEmployeePage(String cursor, int size, EmployeeSortKey sortKey,
+                                                Long departmentId, EmployeeStatus status) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        Specification<Employee> spec = Specification.where((root, query, cb) -> {
+            root.fetch("department");
+            return null;
+        });
+        if (departmentId != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("department").get("id"), departmentId));
+        }
+        if (status != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), status));
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(after(sortKey, cursor));
+        }
+
+        Sort sort = sortKey == EmployeeSortKey.ID
+                ? Sort.by("id")
+                : Sort.by(sortKey.getProperty()).and(Sort.by("id"));
+
+        List<Employee> rows = employeeRepository.findBy(spec, q -> q.sortBy(sort).limit(pageSize + 1).all());
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        return EmployeePageResponse.builder()
+                .items(rows.stream().map(this::mapToResponse).collect(Collectors.toList()))
+                .nextCursor(hasMore ? encodeCursor(sortKey, rows.get(rows.size() - 1)) : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    public List<EmployeeSearchResult> searchEmployees(String query, int limit) {
+        return employeeSearchIndex.search(query, Math.min(limit, MAX_SEARCH_RESULTS));
+    }
+
+    @Transactional(readOnly = true)
     public EmployeeResponse getEmployeeById(Long id) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found"));
@@ -54,6 +117,8 @@ public class EmployeeService {
         employee.setStatus(request.getStatus());
 
         Employee savedEmployee = employeeRepository.save(employee);
+        employeeSearchIndex.upsertAfterCommit(toSearchDocument(savedEmployee));
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.EMPLOYEES, ResourceVersionService.DEPARTMENTS);
         return mapToResponse(savedEmployee);
     }
 
@@ -82,6 +147,9 @@ public class EmployeeService {
         existingEmployee.setStatus(request.getStatus());
 
         Employee updatedEmployee = employeeRepository.save(existingEmployee);
+        employeeSearchIndex.upsertAfterCommit(toSearchDocument(updatedEmployee));
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.EMPLOYEES, ResourceVersionService.DEPARTMENTS,
+                ResourceVersionService.LEAVE_REQUESTS, ResourceVersionService.SALARIES);
         return mapToResponse(updatedEmployee);
     }
 
@@ -91,9 +159,11 @@ public class EmployeeService {
             throw new RuntimeException("Employee not found");
         }
         employeeRepository.deleteById(id);
+        employeeSearchIndex.removeAfterCommit(id);
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.EMPLOYEES, ResourceVersionService.DEPARTMENTS);
     }
 
-    private EmployeeResponse mapToResponse(Employee employee) {
+    EmployeeResponse mapToResponse(Employee employee) {
         return EmployeeResponse.builder()
                 .id(employee.getId())
                 .firstName(employee.getFirstName())
@@ -110,4 +180,68 @@ public class EmployeeService {
                 .userId(employee.getUser() != null ? employee.getUser().getId() : null)
                 .build();
     }
-} 
\ No newline at end of file
+
+    private EmployeeSearchDocument toSearchDocument(Employee employee) {
+        return new EmployeeSearchDocument(employee.getId(), employee.getFirstName(), employee.getLastName(),
+                employee.getEmail(), employee.getPosition(),
+                employee.getDepartment().getId(), employee.getDepartment().getName());
+    }
+
+    /**
+     * Rows after the cursor in (sort key, id) order. Criteria has no row-value comparison, and
+     * PostgreSQL cannot turn the OR form into an index condition, so the sort key's lower bound
+     * is repeated on its own: the scan then starts at the cursor instead of the index's start.
+     */
+    private Specification<Employee> after(EmployeeSortKey sortKey, String cursor) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        int first = decoded.indexOf('|');
+        int last = decoded.lastIndexOf('|');
+        if (first < 0 || first == last || !decoded.substring(0, first).equals(sortKey.name())) {
+            throw new InvalidCursorException("Cursor does not match sort key " + sortKey);
+        }
+
+        String value = decoded.substring(first + 1, last);
+        Long lastId;
+        try {
+            lastId = Long.valueOf(decoded.substring(last + 1));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        return switch (sortKey) {
+            case ID -> (root, query, cb) -> cb.greaterThan(root.get("id"), lastId);
+            case LAST_NAME -> (root, query, cb) -> cb.and(
+                    cb.greaterThanOrEqualTo(root.get("lastName"), value),
+                    cb.or(cb.greaterThan(root.get("lastName"), value),
+                            cb.and(cb.equal(root.get("lastName"), value), cb.greaterThan(root.get("id"), lastId))));
+            case HIRE_DATE -> {
+                LocalDate hireDate;
+                try {
+                    hireDate = LocalDate.parse(value);
+                } catch (DateTimeParseException e) {
+                    throw new InvalidCursorException("Malformed cursor");
+                }
+                yield (root, query, cb) -> cb.and(
+                        cb.greaterThanOrEqualTo(root.get("hireDate"), hireDate),
+                        cb.or(cb.greaterThan(root.get("hireDate"), hireDate),
+                                cb.and(cb.equal(root.get("hireDate"), hireDate), cb.greaterThan(root.get("id"), lastId))));
+            }
+        };
+    }
+
+    private String encodeCursor(EmployeeSortKey sortKey, Employee last) {
+        String value = switch (sortKey) {
+            case ID -> "";
+            case LAST_NAME -> last.getLastName();
+            case HIRE_DATE -> last.getHireDate().toString();
+        };
+        String raw = sortKey.name() + "|" + value + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
\ No newline at end of file
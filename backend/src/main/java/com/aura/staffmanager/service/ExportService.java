@@ -0,0 +1,122 @@
+package com.aura.staffmanager.service;
+
+import com.aura.staffmanager.dto.export.ExportFormat;
+import com.aura.staffmanager.dto.export.LeaveExportRow;
+import com.aura.staffmanager.dto.export.SalaryExportRow;
+import com.aura.staffmanager.entity.LeaveStatus;
+import com.aura.staffmanager.entity.SalaryStatus;
+import com.aura.staffmanager.repository.LeaveRequestRepository;
+import com.aura.staffmanager.repository.SalaryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes salary and leave exports straight from a forward-only database cursor to the response.
+ * Rows are read as DTO projections, so nothing accumulates in the persistence context, and the
+ * output is flushed every {@link #FLUSH_EVERY} rows.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final int FLUSH_EVERY = 1000;
+
+    private static final List<String> SALARY_HEADER = List.of(
+            "id", "employeeId", "firstName", "lastName", "department", "month",
+            "baseSalary", "bonus", "deductions", "netSalary", "status", "comments");
+
+    private static final List<String> LEAVE_HEADER = List.of(
+            "id", "employeeId", "firstName", "lastName", "department", "startDate", "endDate",
+            "type", "status", "reason", "createdAt", "updatedAt");
+
+    private final SalaryRepository salaryRepository;
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long exportSalaries(YearMonth month, Long departmentId, SalaryStatus status,
+                               ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<SalaryExportRow> rows = salaryRepository.streamForExport(month, departmentId, status)) {
+            return write(rows, format, SALARY_HEADER, row -> new Object[]{
+                    row.getId(), row.getEmployeeId(), row.getFirstName(), row.getLastName(),
+                    row.getDepartmentName(), row.getMonth(), row.getBaseSalary(), row.getBonus(),
+                    row.getDeductions(), row.getNetSalary(), row.getStatus(), row.getComments()
+            }, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportLeaveRequests(YearMonth month, Long departmentId, LeaveStatus status,
+                                    ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<LeaveExportRow> rows = leaveRequestRepository.streamForExport(
+                month != null ? month.atDay(1) : null,
+                month != null ? month.atEndOfMonth() : null,
+                departmentId, status)) {
+            return write(rows, format, LEAVE_HEADER, row -> new Object[]{
+                    row.getId(), row.getEmployeeId(), row.getFirstName(), row.getLastName(),
+                    row.getDepartmentName(), row.getStartDate(), row.getEndDate(), row.getType(),
+                    row.getStatus(), row.getReason(), row.getCreatedAt(), row.getUpdatedAt()
+            }, out);
+        }
+    }
+
+    private <T> long write(Stream<T> rows, ExportFormat format, List<String> header,
+                           Function<T, Object[]> columns, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, header.toArray());
+        }
+
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, columns.apply(row));
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+            if (++count % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escapeCsv(String value) {
+        boolean needsQuoting = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuoting) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,185 @@
+package com.aura.staffmanager.service;
+
+import com.aura.staffmanager.config.LeaveProperties;
+import com.aura.staffmanager.dto.leave.LeaveBalanceResponse;
+import com.aura.staffmanager.entity.LeaveBalance;
+import com.aura.staffmanager.entity.LeaveRequest;
+import com.aura.staffmanager.entity.LeaveStatus;
+import com.aura.staffmanager.entity.LeaveType;
+import com.aura.staffmanager.repository.LeaveBalanceRepository;
+import com.aura.staffmanager.repository.LeaveRequestRepository;
+import com.aura.staffmanager.repository.projection.ApprovedLeave;
+import com.aura.staffmanager.repository.projection.BalanceDays;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps per employee, leave type and year balances. Used days change only when a leave request
+ * enters or leaves {@link LeaveStatus#APPROVED}, so reading a balance never touches the leave
+ * history.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeaveBalanceService {
+
+    private final LeaveBalanceRepository leaveBalanceRepository;
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final WorkingDayCalculator workingDayCalculator;
+    private final LeaveProperties leaveProperties;
+
+    @Transactional(readOnly = true)
+    public List<LeaveBalanceResponse> getBalances(Long employeeId, int year) {
+        Map<LeaveType, LeaveBalance> stored = new EnumMap<>(LeaveType.class);
+        for (LeaveBalance balance : leaveBalanceRepository.findByEmployeeIdAndYear(employeeId, year)) {
+            stored.put(balance.getType(), balance);
+        }
+
+        return List.of(LeaveType.values()).stream()
+                .map(type -> {
+                    LeaveBalance balance = stored.get(type);
+                    int entitled = balance != null ? balance.getEntitledDays() : leaveProperties.getEntitlement(type);
+                    int used = balance != null ? balance.getUsedDays() : 0;
+                    return LeaveBalanceResponse.builder()
+                            .employeeId(employeeId)
+                            .type(type)
+                            .year(year)
+                            .entitledDays(entitled)
+                            .usedDays(used)
+                            .remainingDays(entitled - used)
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sets an entitlement with one upsert that leaves the used days as they are, so it cannot
+     * undo an approval committed while it runs.
+     */
+    @Transactional
+    public LeaveBalanceResponse setEntitlement(Long employeeId, LeaveType type, int year, int entitledDays) {
+        BalanceDays balance = leaveBalanceRepository.setEntitledDays(employeeId, type.name(), year, entitledDays);
+        return LeaveBalanceResponse.builder()
+                .employeeId(employeeId)
+                .type(type)
+                .year(year)
+                .entitledDays(balance.getEntitledDays())
+                .usedDays(balance.getUsedDays())
+                .remainingDays(balance.getEntitledDays() - balance.getUsedDays())
+                .build();
+    }
+
+    /**
+     * Applies the balance effect of a leave request changing from the given previous state to its
+     * current state. Either side only counts when it is {@link LeaveStatus#APPROVED}.
+     */
+    @Transactional
+    public void onLeaveRequestChanged(Long employeeId,
+                                      LeaveStatus previousStatus, LeaveType previousType,
+                                      LocalDate previousStart, LocalDate previousEnd,
+                                      LeaveRequest current) {
+        SortedMap<BalanceKey, Integer> usedDays = new TreeMap<>();
+        if (previousStatus == LeaveStatus.APPROVED) {
+            addWorkingDays(usedDays, employeeId, previousType, previousStart, previousEnd, -1);
+        }
+        if (current != null && current.getStatus() == LeaveStatus.APPROVED) {
+            addWorkingDays(usedDays, employeeId, current.getType(), current.getStartDate(), current.getEndDate(), 1);
+        }
+        addUsedDays(usedDays);
+    }
+
+    /**
+     * Applies the balance effect of leave requests that have just been decided from
+     * {@link LeaveStatus#PENDING}. The days of all approved ones are summed per balance and
+     * written with one upsert, however many requests the batch holds.
+     */
+    @Transactional
+    public void onLeaveRequestsDecided(List<LeaveRequest> decided) {
+        SortedMap<BalanceKey, Integer> usedDays = new TreeMap<>();
+        for (LeaveRequest leaveRequest : decided) {
+            if (leaveRequest.getStatus() == LeaveStatus.APPROVED) {
+                addWorkingDays(usedDays, leaveRequest.getEmployee().getId(), leaveRequest.getType(),
+                        leaveRequest.getStartDate(), leaveRequest.getEndDate(), 1);
+            }
+        }
+        addUsedDays(usedDays);
+    }
+
+    /**
+     * Recomputes every used-days counter from the approved leave history. Only needed once for
+     * data that predates balance tracking.
+     *
+     * <p>Totals are summed in memory from plain date ranges, then written with one reset and one
+     * upsert, rather than issuing an UPDATE per request: each bulk UPDATE auto-flushes the
+     * persistence context, which made the per-request approach quadratic in the size of the
+     * history.
+     */
+    @Transactional
+    public void rebuild() {
+        SortedMap<BalanceKey, Integer> usedDays = new TreeMap<>();
+        for (ApprovedLeave leave : leaveRequestRepository.findDateRangesByStatus(LeaveStatus.APPROVED)) {
+            addWorkingDays(usedDays, leave.getEmployeeId(), leave.getType(), leave.getStartDate(), leave.getEndDate(), 1);
+        }
+        leaveBalanceRepository.resetUsedDays();
+        addUsedDays(usedDays);
+    }
+
+    private void addWorkingDays(Map<BalanceKey, Integer> usedDays, Long employeeId, LeaveType type,
+                                LocalDate start, LocalDate end, int sign) {
+        for (int year = start.getYear(); year <= end.getYear(); year++) {
+            int days = workingDayCalculator.workingDaysInYear(start, end, year);
+            if (days != 0) {
+                usedDays.merge(new BalanceKey(employeeId, type, year), sign * days, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Writes used-days changes with one upsert, creating balances that do not exist yet. The
+     * balances go in key order, so transactions touching the same ones lock them in the same
+     * order and cannot deadlock on each other.
+     */
+    private void addUsedDays(SortedMap<BalanceKey, Integer> usedDays) {
+        usedDays.values().removeIf(days -> days == 0);
+        if (usedDays.isEmpty()) {
+            return;
+        }
+        int size = usedDays.size();
+        Long[] employeeIds = new Long[size];
+        String[] types = new String[size];
+        Integer[] years = new Integer[size];
+        Integer[] entitledDays = new Integer[size];
+        Integer[] days = new Integer[size];
+        int i = 0;
+        for (Map.Entry<BalanceKey, Integer> entry : usedDays.entrySet()) {
+            BalanceKey key = entry.getKey();
+            employeeIds[i] = key.employeeId();
+            types[i] = key.type().name();
+            years[i] = key.year();
+            entitledDays[i] = leaveProperties.getEntitlement(key.type());
+            days[i] = entry.getValue();
+            i++;
+        }
+        leaveBalanceRepository.addUsedDays(employeeIds, types, years, entitledDays, days);
+    }
+
+    private record BalanceKey(Long employeeId, LeaveType type, int year) implements Comparable<BalanceKey> {
+        private static final Comparator<BalanceKey> ORDER = Comparator.comparing(BalanceKey::employeeId)
+                .thenComparing(BalanceKey::type)
+                .thenComparingInt(BalanceKey::year);
+
+        @Override
+        public int compareTo(BalanceKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.aura.staffmanager.service;
+
+import com.aura.staffmanager.dto.leave.LeaveDecisionOutcome;
+import com.aura.staffmanager.dto.leave.LeaveDecisionRequest;
+import com.aura.staffmanager.dto.leave.LeaveDecisionResponse;
+import com.aura.staffmanager.dto.leave.LeaveDecisionResult;
+import com.aura.staffmanager.entity.LeaveRequest;
+import com.aura.staffmanager.entity.LeaveStatus;
+import com.aura.staffmanager.repository.LeaveRequestRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Approves or rejects many pending leave requests in one call. Requests are decided in chunks,
+ * each chunk in its own transaction: loaded with one query, checked item by item, and written
+ * as one batch of versioned UPDATEs plus one leave-balance upsert. If a concurrent change makes
+ * the batch fail its version check, the chunk is rolled back and re-evaluated, so every item
+ * still gets an accurate outcome.
+ */
+@Service
+public class LeaveDecisionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaveDecisionService.class);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String COMMENT_PREFIX = "\nManager's comment: ";
+    /** Length of the {@code leave_requests.reason} column. */
+    private static final int MAX_REASON_LENGTH = 255;
+
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final LeaveBalanceService leaveBalanceService;
+    private final ResourceVersionService resourceVersionService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public LeaveDecisionService(LeaveRequestRepository leaveRequestRepository,
+                                LeaveBalanceService leaveBalanceService,
+                                ResourceVersionService resourceVersionService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${leave.decision-chunk-size:200}") int chunkSize) {
+        this.leaveRequestRepository = leaveRequestRepository;
+        this.leaveBalanceService = leaveBalanceService;
+        this.resourceVersionService = resourceVersionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public LeaveDecisionResponse decide(LeaveDecisionRequest request) {
+        if (request.getStatus() != LeaveStatus.APPROVED && request.getStatus() != LeaveStatus.REJECTED) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Status must be APPROVED or REJECTED");
+        }
+        boolean byItems = request.getItems() != null && !request.getItems().isEmpty();
+        if (byItems == (request.getFilter() != null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Give either items or a filter");
+        }
+
+        List<LeaveDecisionOutcome> outcomes = new ArrayList<>();
+        if (byItems) {
+            // A repeated id is decided once, with the first version given for it
+            Map<Long, Long> versions = new LinkedHashMap<>();
+            request.getItems().forEach(item -> versions.putIfAbsent(item.getId(), item.getVersion()));
+            List<Long> ids = new ArrayList<>(versions.keySet());
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                outcomes.addAll(decideChunk(chunk, versions, request));
+            }
+        } else {
+            LeaveDecisionRequest.Filter filter = request.getFilter();
+            long afterId = 0;
+            List<Long> chunk;
+            while (!(chunk = leaveRequestRepository.findIdsForDecision(LeaveStatus.PENDING, filter.getDepartmentId(),
+                    filter.getFrom(), filter.getTo(), afterId, Limit.of(chunkSize))).isEmpty()) {
+                outcomes.addAll(decideChunk(chunk, Map.of(), request));
+                afterId = chunk.get(chunk.size() - 1);
+            }
+        }
+
+        int decided = (int) outcomes.stream().filter(outcome -> outcome.getResult() == LeaveDecisionResult.DECIDED).count();
+        return LeaveDecisionResponse.builder()
+                .status(request.getStatus())
+                .decided(decided)
+                .skipped(outcomes.size() - decided)
+                .outcomes(outcomes)
+                .build();
+    }
+
+    private List<LeaveDecisionOutcome> decideChunk(List<Long> ids, Map<Long, Long> versions, LeaveDecisionRequest request) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> applyDecisions(ids, versions, request));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    logger.warn("Leave decision chunk starting at id {} kept conflicting, giving up", ids.get(0), e);
+                    return ids.stream()
+                            .map(id -> LeaveDecisionOutcome.builder().id(id).result(LeaveDecisionResult.VERSION_CONFLICT).build())
+                            .collect(Collectors.toList());
+                }
+            }
+        }
+    }
+
+    private List<LeaveDecisionOutcome> applyDecisions(List<Long> ids, Map<Long, Long> versions,
+                                                      LeaveDecisionRequest request) {
+        Map<Long, LeaveRequest> found = leaveRequestRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(LeaveRequest::getId, Function.identity()));
+
+        Map<Long, LeaveDecisionResult> results = new LinkedHashMap<>();
+        List<LeaveRequest> decided = new ArrayList<>();
+        for (Long id : ids) {
+            LeaveRequest leaveRequest = found.get(id);
+            Long expectedVersion = versions.get(id);
+            if (leaveRequest == null) {
+                results.put(id, LeaveDecisionResult.NOT_FOUND);
+            } else if (expectedVersion != null && !expectedVersion.equals(leaveRequest.getVersion())) {
+                results.put(id, LeaveDecisionResult.VERSION_CONFLICT);
+            } else if (leaveRequest.getStatus() != LeaveStatus.PENDING) {
+                results.put(id, LeaveDecisionResult.NOT_PENDING);
+            } else if (request.getComment() != null && leaveRequest.getReason().length()
+                    + COMMENT_PREFIX.length() + request.getComment().length() > MAX_REASON_LENGTH) {
+                // Would fail the whole chunk's flush, so it is skipped on its own
+                results.put(id, LeaveDecisionResult.REASON_TOO_LONG);
+            } else {
+                leaveRequest.setStatus(request.getStatus());
+                if (request.getComment() != null) {
+                    leaveRequest.setReason(leaveRequest.getReason() + COMMENT_PREFIX + request.getComment());
+                }
+                decided.add(leaveRequest);
+                results.put(id, LeaveDecisionResult.DECIDED);
+            }
+        }
+
+        if (!decided.isEmpty()) {
+            // One batch of UPDATE ... WHERE id = ? AND version = ?, then one upsert for all balances
+            leaveRequestRepository.flush();
+            leaveBalanceService.onLeaveRequestsDecided(decided);
+            resourceVersionService.bumpAfterCommit(ResourceVersionService.LEAVE_REQUESTS);
+        }
+
+        List<LeaveDecisionOutcome> outcomes = new ArrayList<>(results.size());
+        results.forEach((id, result) -> {
+            LeaveRequest leaveRequest = found.get(id);
+            outcomes.add(LeaveDecisionOutcome.builder()
+                    .id(id)
+                    .result(result)
+                    .status(leaveRequest != null ? leaveRequest.getStatus() : null)
+                    .version(leaveRequest != null ? leaveRequest.getVersion() : null)
+                    .build());
+        });
+        return outcomes;
+    }
+}
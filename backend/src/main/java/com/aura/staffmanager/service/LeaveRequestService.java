@@ -10,8 +10,10 @@ import com.aura.staffmanager.entity.LeaveType;
 import com.aura.staffmanager.repository.EmployeeRepository;
 import com.aura.staffmanager.repository.LeaveRequestRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -23,6 +25,8 @@ public class LeaveRequestService {
 
     private final LeaveRequestRepository leaveRequestRepository;
     private final EmployeeRepository employeeRepository;
+    private final LeaveBalanceService leaveBalanceService;
+    private final ResourceVersionService resourceVersionService;
 
     public List<LeaveRequestResponse> getAllLeaveRequests() {
         return leaveRequestRepository.findAll().stream()
@@ -36,6 +40,15 @@ public class LeaveRequestService {
                 .collect(Collectors.toList());
     }
 
+    public List<LeaveRequestResponse> getAbsences(LocalDate from, LocalDate to, Long departmentId, LeaveStatus status) {
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'to' must not be before 'from'");
+        }
+        return leaveRequestRepository.findOverlapping(from, to, departmentId, status).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
     public LeaveRequestResponse getLeaveRequestById(Long id) {
         LeaveRequest leaveRequest = leaveRequestRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Leave request not found"));
@@ -56,6 +69,7 @@ public class LeaveRequestService {
         leaveRequest.setReason(request.getReason());
 
         LeaveRequest savedRequest = leaveRequestRepository.save(leaveRequest);
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.LEAVE_REQUESTS);
         return mapToResponse(savedRequest);
     }
 
@@ -64,6 +78,11 @@ public class LeaveRequestService {
         LeaveRequest leaveRequest = leaveRequestRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Leave request not found"));
 
+        LeaveStatus previousStatus = leaveRequest.getStatus();
+        LeaveType previousType = leaveRequest.getType();
+        LocalDate previousStart = leaveRequest.getStartDate();
+        LocalDate previousEnd = leaveRequest.getEndDate();
+
         if (request.getStatus() != null) {
             leaveRequest.setStatus(request.getStatus());
         }
@@ -84,18 +103,24 @@ public class LeaveRequestService {
         }
 
         LeaveRequest updatedRequest = leaveRequestRepository.save(leaveRequest);
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.LEAVE_REQUESTS);
+        leaveBalanceService.onLeaveRequestChanged(updatedRequest.getEmployee().getId(),
+                previousStatus, previousType, previousStart, previousEnd, updatedRequest);
         return mapToResponse(updatedRequest);
     }
 
     @Transactional
     public void deleteLeaveRequest(Long id) {
-        if (!leaveRequestRepository.existsById(id)) {
-            throw new RuntimeException("Leave request not found");
-        }
-        leaveRequestRepository.deleteById(id);
+        LeaveRequest leaveRequest = leaveRequestRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Leave request not found"));
+        leaveRequestRepository.delete(leaveRequest);
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.LEAVE_REQUESTS);
+        leaveBalanceService.onLeaveRequestChanged(leaveRequest.getEmployee().getId(),
+                leaveRequest.getStatus(), leaveRequest.getType(),
+                leaveRequest.getStartDate(), leaveRequest.getEndDate(), null);
     }
 
-    private LeaveRequestResponse mapToResponse(LeaveRequest leaveRequest) {
+    LeaveRequestResponse mapToResponse(LeaveRequest leaveRequest) {
         return LeaveRequestResponse.builder()
                 .id(leaveRequest.getId())
                 .employeeId(leaveRequest.getEmployee().getId())
@@ -107,6 +132,7 @@ public class LeaveRequestService {
                 .reason(leaveRequest.getReason())
                 .createdAt(leaveRequest.getCreatedAt())
                 .updatedAt(leaveRequest.getUpdatedAt())
+                .version(leaveRequest.getVersion())
                 .build();
     }
 } 
\ No newline at end of file
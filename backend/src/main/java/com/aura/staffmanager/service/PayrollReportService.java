@@ -0,0 +1,123 @@
+package com.aura.staffmanager.service;
+
+import com.aura.staffmanager.dto.report.PayrollReportDimension;
+import com.aura.staffmanager.dto.report.PayrollReportRow;
+import com.aura.staffmanager.entity.Department;
+import com.aura.staffmanager.entity.Employee;
+import com.aura.staffmanager.entity.Salary;
+import com.aura.staffmanager.entity.SalaryStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Payroll totals and averages computed by the database with a single GROUP BY over
+ * {@code salaries}, grouped by any combination of department, month and status.
+ */
+@Service
+@RequiredArgsConstructor
+public class PayrollReportService {
+
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public List<PayrollReportRow> getPayrollReport(Set<PayrollReportDimension> groupBy, YearMonth from, YearMonth to,
+                                                   Long departmentId, SalaryStatus status) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Salary> salary = query.from(Salary.class);
+        Join<Salary, Employee> employee = salary.join("employee");
+        Join<Employee, Department> department = employee.join("department");
+
+        List<Selection<?>> selections = new ArrayList<>();
+        List<Expression<?>> grouping = new ArrayList<>();
+        List<Order> ordering = new ArrayList<>();
+        if (groupBy.contains(PayrollReportDimension.MONTH)) {
+            selections.add(salary.get("month").alias("month"));
+            grouping.add(salary.get("month"));
+            ordering.add(cb.asc(salary.get("month")));
+        }
+        if (groupBy.contains(PayrollReportDimension.DEPARTMENT)) {
+            selections.add(department.get("id").alias("departmentId"));
+            selections.add(department.get("name").alias("departmentName"));
+            grouping.add(department.get("id"));
+            grouping.add(department.get("name"));
+            ordering.add(cb.asc(department.get("name")));
+        }
+        if (groupBy.contains(PayrollReportDimension.STATUS)) {
+            selections.add(salary.get("status").alias("status"));
+            grouping.add(salary.get("status"));
+            ordering.add(cb.asc(salary.get("status")));
+        }
+
+        selections.add(cb.count(salary).alias("count"));
+        for (String field : List.of("baseSalary", "bonus", "deductions", "netSalary")) {
+            selections.add(cb.sum(salary.<BigDecimal>get(field)).alias("total_" + field));
+            selections.add(cb.avg(salary.<BigDecimal>get(field)).alias("avg_" + field));
+        }
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(salary.<YearMonth>get("month"), from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThanOrEqualTo(salary.<YearMonth>get("month"), to));
+        }
+        if (departmentId != null) {
+            predicates.add(cb.equal(department.get("id"), departmentId));
+        }
+        if (status != null) {
+            predicates.add(cb.equal(salary.get("status"), status));
+        }
+
+        query.multiselect(selections)
+                .where(predicates.toArray(new Predicate[0]))
+                .groupBy(grouping)
+                .orderBy(ordering);
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> toRow(tuple, groupBy))
+                .collect(Collectors.toList());
+    }
+
+    private PayrollReportRow toRow(Tuple tuple, Set<PayrollReportDimension> groupBy) {
+        PayrollReportRow.PayrollReportRowBuilder row = PayrollReportRow.builder()
+                .count(tuple.get("count", Long.class))
+                .totalBaseSalary(tuple.get("total_baseSalary", BigDecimal.class))
+                .totalBonus(tuple.get("total_bonus", BigDecimal.class))
+                .totalDeductions(tuple.get("total_deductions", BigDecimal.class))
+                .totalNetSalary(tuple.get("total_netSalary", BigDecimal.class))
+                .averageBaseSalary(tuple.get("avg_baseSalary", Double.class))
+                .averageBonus(tuple.get("avg_bonus", Double.class))
+                .averageDeductions(tuple.get("avg_deductions", Double.class))
+                .averageNetSalary(tuple.get("avg_netSalary", Double.class));
+        if (groupBy.contains(PayrollReportDimension.MONTH)) {
+            row.month(tuple.get("month", YearMonth.class));
+        }
+        if (groupBy.contains(PayrollReportDimension.DEPARTMENT)) {
+            row.departmentId(tuple.get("departmentId", Long.class));
+            row.departmentName(tuple.get("departmentName", String.class));
+        }
+        if (groupBy.contains(PayrollReportDimension.STATUS)) {
+            row.status(tuple.get("status", SalaryStatus.class));
+        }
+        return row.build();
+    }
+}
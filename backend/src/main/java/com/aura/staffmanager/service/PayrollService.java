@@ -0,0 +1,212 @@
+package com.aura.staffmanager.service;
+
+import com.aura.staffmanager.dto.payroll.PayrollRunRequest;
+import com.aura.staffmanager.dto.payroll.PayrollRunResponse;
+import com.aura.staffmanager.dto.payroll.PayrollRunState;
+import com.aura.staffmanager.entity.EmployeeStatus;
+import com.aura.staffmanager.entity.Salary;
+import com.aura.staffmanager.entity.SalaryStatus;
+import com.aura.staffmanager.exception.ResourceNotFoundException;
+import com.aura.staffmanager.repository.EmployeeRepository;
+import com.aura.staffmanager.repository.SalaryRepository;
+import com.aura.staffmanager.repository.projection.PayrollCandidate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a month's {@link Salary} rows for every active employee, optionally restricted to one
+ * department. Employees are walked in id order in chunks; each chunk runs in its own transaction
+ * and is written with JDBC batch inserts. Employees that already have a salary for the month are
+ * skipped, so a failed run can simply be started again.
+ */
+@Service
+public class PayrollService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollService.class);
+    private static final int MAX_TRACKED_RUNS = 100;
+
+    private final EmployeeRepository employeeRepository;
+    private final SalaryRepository salaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor payrollExecutor;
+    private final ResourceVersionService resourceVersionService;
+    private final int chunkSize;
+
+    private final Map<String, PayrollRun> runs = new ConcurrentHashMap<>();
+
+    public PayrollService(EmployeeRepository employeeRepository,
+                          SalaryRepository salaryRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Qualifier("payrollExecutor") TaskExecutor payrollExecutor,
+                          ResourceVersionService resourceVersionService,
+                          @Value("${payroll.chunk-size:1000}") int chunkSize) {
+        this.employeeRepository = employeeRepository;
+        this.salaryRepository = salaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.payrollExecutor = payrollExecutor;
+        this.resourceVersionService = resourceVersionService;
+        this.chunkSize = chunkSize;
+    }
+
+    public PayrollRunResponse startRun(PayrollRunRequest request) {
+        PayrollRun run = new PayrollRun(UUID.randomUUID().toString(), request.getMonth(), request.getDepartmentId());
+        pruneFinishedRuns();
+        runs.put(run.id, run);
+        try {
+            payrollExecutor.execute(() -> execute(run));
+        } catch (TaskRejectedException e) {
+            runs.remove(run.id);
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many payroll runs queued");
+        }
+        return run.toResponse();
+    }
+
+    public PayrollRunResponse getRun(String id) {
+        PayrollRun run = runs.get(id);
+        if (run == null) {
+            throw new ResourceNotFoundException("Payroll run not found with id: " + id);
+        }
+        return run.toResponse();
+    }
+
+    public List<PayrollRunResponse> getRuns() {
+        return runs.values().stream()
+                .sorted((a, b) -> b.startedAt.compareTo(a.startedAt))
+                .map(PayrollRun::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    private void execute(PayrollRun run) {
+        try {
+            run.totalEmployees = employeeRepository.countPayrollCandidates(EmployeeStatus.ACTIVE, run.departmentId);
+            long afterId = 0;
+            while (true) {
+                final long cursor = afterId;
+                Long lastId = transactionTemplate.execute(status -> processChunk(run, cursor));
+                if (lastId == null) {
+                    break;
+                }
+                afterId = lastId;
+            }
+            run.state = PayrollRunState.COMPLETED;
+            logger.info("Payroll run {} for {} completed: {} created, {} skipped",
+                    run.id, run.month, run.created.get(), run.skipped.get());
+        } catch (RuntimeException e) {
+            run.state = PayrollRunState.FAILED;
+            run.error = e.getMessage();
+            logger.error("Payroll run {} for {} failed", run.id, run.month, e);
+        } finally {
+            run.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Inserts the salaries for the next chunk of employees after {@code afterId} and returns the
+     * last employee id seen, or {@code null} once there are no employees left.
+     */
+    private Long processChunk(PayrollRun run, long afterId) {
+        List<PayrollCandidate> candidates = employeeRepository.findPayrollCandidates(
+                EmployeeStatus.ACTIVE, run.departmentId, afterId, Limit.of(chunkSize));
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        List<Long> ids = candidates.stream().map(PayrollCandidate::getId).collect(Collectors.toList());
+        Set<Long> alreadyPaid = new HashSet<>(salaryRepository.findEmployeeIdsWithSalaryForMonth(run.month, ids));
+
+        List<Salary> salaries = new ArrayList<>(candidates.size());
+        for (PayrollCandidate candidate : candidates) {
+            if (alreadyPaid.contains(candidate.getId())) {
+                continue;
+            }
+            Salary salary = new Salary();
+            salary.setEmployee(employeeRepository.getReferenceById(candidate.getId()));
+            salary.setBaseSalary(BigDecimal.valueOf(candidate.getSalary()));
+            salary.setBonus(BigDecimal.ZERO);
+            salary.setDeductions(BigDecimal.ZERO);
+            salary.setMonth(run.month);
+            salary.setYear(run.month.getYear());
+            salary.setStatus(SalaryStatus.PENDING);
+            salaries.add(salary);
+        }
+        salaryRepository.saveAll(salaries);
+        if (!salaries.isEmpty()) {
+            resourceVersionService.bumpAfterCommit(ResourceVersionService.SALARIES);
+        }
+
+        run.created.addAndGet(salaries.size());
+        run.skipped.addAndGet(alreadyPaid.size());
+        run.processed.addAndGet(candidates.size());
+        return ids.get(ids.size() - 1);
+    }
+
+    private void pruneFinishedRuns() {
+        if (runs.size() < MAX_TRACKED_RUNS) {
+            return;
+        }
+        runs.values().stream()
+                .filter(run -> run.state != PayrollRunState.RUNNING)
+                .sorted((a, b) -> a.startedAt.compareTo(b.startedAt))
+                .limit(runs.size() - MAX_TRACKED_RUNS + 1)
+                .forEach(run -> runs.remove(run.id));
+    }
+
+    private static class PayrollRun {
+        private final String id;
+        private final YearMonth month;
+        private final Long departmentId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong created = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private volatile long totalEmployees;
+        private volatile PayrollRunState state = PayrollRunState.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private PayrollRun(String id, YearMonth month, Long departmentId) {
+            this.id = id;
+            this.month = month;
+            this.departmentId = departmentId;
+        }
+
+        private PayrollRunResponse toResponse() {
+            return PayrollRunResponse.builder()
+                    .id(id)
+                    .month(month)
+                    .departmentId(departmentId)
+                    .state(state)
+                    .totalEmployees(totalEmployees)
+                    .processed(processed.get())
+                    .created(created.get())
+                    .skipped(skipped.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.aura.staffmanager.service;
+
+import com.aura.staffmanager.repository.ResourceVersionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Strong ETags for the polled collections, backed by the {@code resource_versions} counters.
+ *
+ * <p>Writers bump a counter only after their transaction commits, and readers must take the
+ * ETag before loading data, in the same transaction (see EtagResponses), so that with read
+ * replicas both come from the same server. A response can therefore carry an older version than
+ * its data, which only costs one extra full response, but never a newer one, which would let
+ * stale data be answered with 304.
+ */
+@Service
+public class ResourceVersionService {
+
+    public static final String EMPLOYEES = "employees";
+    public static final String DEPARTMENTS = "departments";
+    public static final String LEAVE_REQUESTS = "leave-requests";
+    public static final String SALARIES = "salaries";
+
+    private final ResourceVersionRepository resourceVersionRepository;
+    private final TransactionTemplate bumpTransaction;
+
+    public ResourceVersionService(ResourceVersionRepository resourceVersionRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.resourceVersionRepository = resourceVersionRepository;
+        this.bumpTransaction = new TransactionTemplate(transactionManager);
+        this.bumpTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public String etag(String resource) {
+        long version = resourceVersionRepository.findVersion(resource).orElse(0L);
+        return "\"" + resource + "-" + version + "\"";
+    }
+
+    public String etag(String resource, Long id) {
+        long version = resourceVersionRepository.findVersion(resource).orElse(0L);
+        return "\"" + resource + "-" + version + "-" + id + "\"";
+    }
+
+    public void bumpAfterCommit(String... resources) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(resources);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(resources);
+            }
+        });
+    }
+
+    private void bump(String... resources) {
+        bumpTransaction.executeWithoutResult(status -> {
+            for (String resource : resources) {
+                resourceVersionRepository.increment(resource);
+            }
+        });
+    }
+}
@@ -1,6 +1,8 @@
 package com.aura.staffmanager.service;
 
 import com.aura.staffmanager.dto.SalaryDTO;
+import com.aura.staffmanager.dto.salary.SalaryStatusUpdateRequest;
+import com.aura.staffmanager.dto.salary.SalaryStatusUpdateResponse;
 import java.util.List;
 
 public interface SalaryService {
@@ -11,4 +13,5 @@ public interface SalaryService {
     SalaryDTO updateSalary(Long id, SalaryDTO salaryDTO);
     void deleteSalary(Long id);
     List<SalaryDTO> getSalariesByMonthAndYear(int month, int year);
+    SalaryStatusUpdateResponse updateStatuses(SalaryStatusUpdateRequest request);
 } 
\ No newline at end of file
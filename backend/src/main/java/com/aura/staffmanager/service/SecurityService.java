@@ -1,58 +1,77 @@
 package com.aura.staffmanager.service;
 
-import com.aura.staffmanager.entity.Employee;
-import com.aura.staffmanager.entity.LeaveRequest;
+import com.aura.staffmanager.entity.LeaveStatus;
 import com.aura.staffmanager.repository.EmployeeRepository;
 import com.aura.staffmanager.repository.LeaveRequestRepository;
-import com.aura.staffmanager.repository.UserRepository;
+import com.aura.staffmanager.repository.SalaryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class SecurityService {
 
-    private final UserRepository userRepository;
+    private static final String CURRENT_EMPLOYEE_ID_ATTRIBUTE = SecurityService.class.getName() + ".currentEmployeeId";
+
     private final EmployeeRepository employeeRepository;
     private final LeaveRequestRepository leaveRequestRepository;
+    private final SalaryRepository salaryRepository;
 
     public boolean isCurrentUser(Long employeeId) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null || !auth.isAuthenticated()) {
-            return false;
-        }
+        return getCurrentEmployeeId()
+                .map(id -> id.equals(employeeId))
+                .orElse(false);
+    }
 
-        return userRepository.findByEmail(auth.getName())
-                .map(user -> {
-                    Employee employee = employeeRepository.findByUserId(user.getId())
-                            .orElse(null);
-                    return employee != null && employee.getId().equals(employeeId);
-                })
+    public boolean isSalaryOwner(Long salaryId) {
+        return getAuthenticatedName()
+                .map(email -> salaryRepository.existsByIdAndEmployeeUserEmail(salaryId, email))
                 .orElse(false);
     }
 
     public boolean isLeaveRequestOwner(Long leaveRequestId) {
+        return getAuthenticatedName()
+                .map(email -> leaveRequestRepository.existsByIdAndEmployeeUserEmailAndStatus(
+                        leaveRequestId, email, LeaveStatus.PENDING))
+                .orElse(false);
+    }
+
+    /**
+     * Resolves the employee id of the authenticated user with a single id-only query, memoized
+     * on the current request so that several ownership checks share the lookup.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<Long> getCurrentEmployeeId() {
+        Optional<String> email = getAuthenticatedName();
+        if (email.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return employeeRepository.findIdByUserEmail(email.get());
+        }
+
+        Optional<Long> employeeId = (Optional<Long>) attributes.getAttribute(
+                CURRENT_EMPLOYEE_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (employeeId == null) {
+            employeeId = employeeRepository.findIdByUserEmail(email.get());
+            attributes.setAttribute(CURRENT_EMPLOYEE_ID_ATTRIBUTE, employeeId, RequestAttributes.SCOPE_REQUEST);
+        }
+        return employeeId;
+    }
+
+    private Optional<String> getAuthenticatedName() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated()) {
-            return false;
+            return Optional.empty();
         }
-
-        return userRepository.findByEmail(auth.getName())
-                .map(user -> {
-                    Employee employee = employeeRepository.findByUserId(user.getId())
-                            .orElse(null);
-                    if (employee == null) {
-                        return false;
-                    }
-
-                    LeaveRequest leaveRequest = leaveRequestRepository.findById(leaveRequestId)
-                            .orElse(null);
-                    return leaveRequest != null && 
-                           leaveRequest.getEmployee().getId().equals(employee.getId()) &&
-                           leaveRequest.getStatus().name().equals("PENDING");
-                })
-                .orElse(false);
+        return Optional.of(auth.getName());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.aura.staffmanager.service;
+
+import com.aura.staffmanager.config.LeaveProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts working days (Monday to Friday, excluding configured holidays). For each year a
+ * cumulative count per day of year is computed once and cached, so a range costs two array
+ * lookups.
+ */
+@Component
+public class WorkingDayCalculator {
+
+    private final Set<LocalDate> holidays;
+    private final Map<Integer, int[]> cumulativeByYear = new ConcurrentHashMap<>();
+
+    public WorkingDayCalculator(LeaveProperties leaveProperties) {
+        this.holidays = new HashSet<>(leaveProperties.getHolidays());
+    }
+
+    /**
+     * Working days of [start, end] that fall in the given year.
+     */
+    public int workingDaysInYear(LocalDate start, LocalDate end, int year) {
+        LocalDate from = start.getYear() < year ? LocalDate.of(year, 1, 1) : start;
+        LocalDate to = end.getYear() > year ? LocalDate.of(year, 12, 31) : end;
+        if (from.getYear() != year || to.getYear() != year || to.isBefore(from)) {
+            return 0;
+        }
+        return workingDaysInYear(from, to);
+    }
+
+    private int workingDaysInYear(LocalDate from, LocalDate to) {
+        int[] cumulative = cumulativeByYear.computeIfAbsent(from.getYear(), this::buildCumulative);
+        return cumulative[to.getDayOfYear()] - cumulative[from.getDayOfYear() - 1];
+    }
+
+    private int[] buildCumulative(int year) {
+        int length = Year.of(year).length();
+        int[] cumulative = new int[length + 1];
+        LocalDate day = LocalDate.of(year, 1, 1);
+        for (int i = 1; i <= length; i++, day = day.plusDays(1)) {
+            boolean working = day.getDayOfWeek() != DayOfWeek.SATURDAY
+                    && day.getDayOfWeek() != DayOfWeek.SUNDAY
+                    && !holidays.contains(day);
+            cumulative[i] = cumulative[i - 1] + (working ? 1 : 0);
+        }
+        return cumulative;
+    }
+}
@@ -1,27 +1,45 @@
 package com.aura.staffmanager.service.impl;
 
 import com.aura.staffmanager.dto.SalaryDTO;
+import com.aura.staffmanager.dto.salary.SalaryStatusUpdateRequest;
+import com.aura.staffmanager.dto.salary.SalaryStatusUpdateResponse;
 import com.aura.staffmanager.entity.Employee;
 import com.aura.staffmanager.entity.Salary;
 import com.aura.staffmanager.entity.SalaryStatus;
 import com.aura.staffmanager.repository.EmployeeRepository;
 import com.aura.staffmanager.repository.SalaryRepository;
+import com.aura.staffmanager.service.ResourceVersionService;
 import com.aura.staffmanager.service.SalaryService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.YearMonth;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SalaryServiceImpl implements SalaryService {
 
+    /**
+     * Status moves allowed in bulk. A salary only moves forward, so a bulk call can never
+     * reopen a month that has already been paid.
+     */
+    private static final Map<SalaryStatus, Set<SalaryStatus>> BULK_TRANSITIONS = Map.of(
+            SalaryStatus.PENDING, EnumSet.of(SalaryStatus.PROCESSING, SalaryStatus.PAID),
+            SalaryStatus.PROCESSING, EnumSet.of(SalaryStatus.PAID),
+            SalaryStatus.PAID, EnumSet.noneOf(SalaryStatus.class));
+
     private final SalaryRepository salaryRepository;
     private final EmployeeRepository employeeRepository;
+    private final ResourceVersionService resourceVersionService;
 
     @Override
     @Transactional(readOnly = true)
@@ -55,6 +73,7 @@ public class SalaryServiceImpl implements SalaryService {
 
         Salary salary = new Salary();
         updateSalaryFromDTO(salary, salaryDTO, employee);
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.SALARIES);
         return convertToDTO(salaryRepository.save(salary));
     }
 
@@ -68,6 +87,7 @@ public class SalaryServiceImpl implements SalaryService {
                 .orElseThrow(() -> new EntityNotFoundException("Employee not found with id: " + salaryDTO.getEmployeeId()));
 
         updateSalaryFromDTO(salary, salaryDTO, employee);
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.SALARIES);
         return convertToDTO(salaryRepository.save(salary));
     }
 
@@ -78,6 +98,7 @@ public class SalaryServiceImpl implements SalaryService {
             throw new EntityNotFoundException("Salary not found with id: " + id);
         }
         salaryRepository.deleteById(id);
+        resourceVersionService.bumpAfterCommit(ResourceVersionService.SALARIES);
     }
 
     @Override
@@ -89,7 +110,28 @@ public class SalaryServiceImpl implements SalaryService {
                 .collect(Collectors.toList());
     }
 
-    private SalaryDTO convertToDTO(Salary salary) {
+    @Override
+    @Transactional
+    public SalaryStatusUpdateResponse updateStatuses(SalaryStatusUpdateRequest request) {
+        if (!BULK_TRANSITIONS.get(request.getFromStatus()).contains(request.getToStatus())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Salaries cannot move from " + request.getFromStatus() + " to " + request.getToStatus());
+        }
+        int updated = salaryRepository.updateStatus(request.getMonth(), request.getDepartmentId(),
+                request.getFromStatus(), request.getToStatus());
+        if (updated > 0) {
+            resourceVersionService.bumpAfterCommit(ResourceVersionService.SALARIES);
+        }
+        return SalaryStatusUpdateResponse.builder()
+                .month(request.getMonth())
+                .departmentId(request.getDepartmentId())
+                .fromStatus(request.getFromStatus())
+                .toStatus(request.getToStatus())
+                .updated(updated)
+                .build();
+    }
+
+    SalaryDTO convertToDTO(Salary salary) {
         SalaryDTO dto = new SalaryDTO();
         dto.setId(salary.getId());
         dto.setEmployeeId(salary.getEmployee().getId());
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS resource_versions (
+    name VARCHAR(50) PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+-- Seed with the current time so a recreated database never reissues an ETag a client may still hold.
+INSERT INTO resource_versions (name, version)
+SELECT name, (EXTRACT(EPOCH FROM CURRENT_TIMESTAMP) * 1000)::BIGINT
+FROM (VALUES ('employees'), ('departments'), ('leave-requests'), ('salaries')) AS resources(name)
+ON CONFLICT (name) DO NOTHING;
@@ -0,0 +1,7 @@
+-- One salary per employee and month. Also serves findByEmployeeIdAndMonth, findByEmployeeId and
+-- the salaries -> employees foreign key; findByMonth is served by idx_salaries_month_status.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_salaries_employee_month ON salaries (employee_id, month);
+
+-- findByEmployeeIdAndStatus, and findByEmployeeId through its leading column
+CREATE INDEX IF NOT EXISTS idx_leave_requests_employee_status ON leave_requests (employee_id, status);
+CREATE INDEX IF NOT EXISTS idx_leave_requests_status ON leave_requests (status);
@@ -0,0 +1,2 @@
+-- Optimistic locking for leave decisions, so a bulk approval cannot overwrite a concurrent change.
+ALTER TABLE leave_requests ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_employees_last_name_id ON employees (last_name, id);
+CREATE INDEX IF NOT EXISTS idx_employees_hire_date_id ON employees (hire_date, id);
+CREATE INDEX IF NOT EXISTS idx_employees_department_id ON employees (department_id, id);
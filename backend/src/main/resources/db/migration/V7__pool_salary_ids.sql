@@ -0,0 +1,2 @@
+-- Salary ids are allocated by Hibernate's pooled optimizer in blocks of 50 so that inserts can be batched.
+ALTER SEQUENCE salaries_id_seq INCREMENT BY 50;
@@ -0,0 +1,2 @@
+-- Employee ids are allocated by Hibernate's pooled optimizer in blocks of 50 so that imports can be batched.
+ALTER SEQUENCE employees_id_seq INCREMENT BY 50;
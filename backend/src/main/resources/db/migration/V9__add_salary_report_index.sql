@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_salaries_month_status ON salaries (month, status);
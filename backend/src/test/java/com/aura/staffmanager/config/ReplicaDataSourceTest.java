@@ -0,0 +1,193 @@
+package com.aura.staffmanager.config;
+
+import com.aura.staffmanager.support.EmbeddedPostgresSupport;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs {@link ReplicaDataSource} against a real streaming replica: a second embedded PostgreSQL
+ * started from a base backup of the first.
+ */
+@ExtendWith(EmbeddedPostgresSupport.class)
+class ReplicaDataSourceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @TempDir
+    Path dataDirectories;
+
+    private EmbeddedPostgres primary;
+    private EmbeddedPostgres standby;
+    private ReplicaDataSource replicaDataSource;
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void startPrimaryAndStandby() throws Exception {
+        Path primaryDirectory = dataDirectories.resolve("primary");
+        Path standbyDirectory = dataDirectories.resolve("standby");
+        primary = EmbeddedPostgres.builder()
+                .setDataDirectory(primaryDirectory)
+                .setServerConfig("wal_keep_size", "64MB")
+                .start();
+        baseBackup(primaryDirectory, standbyDirectory);
+        Files.writeString(standbyDirectory.resolve("standby.signal"), "");
+        Files.writeString(standbyDirectory.resolve("postgresql.auto.conf"),
+                "primary_conninfo = 'host=localhost port=" + primary.getPort() + " user=postgres'\n",
+                StandardOpenOption.APPEND);
+        standby = EmbeddedPostgres.builder()
+                .setDataDirectory(standbyDirectory)
+                .setCleanDataDirectory(false)
+                .start();
+
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("replica-0");
+        pool.setJdbcUrl(standby.getJdbcUrl("postgres", "postgres"));
+        pool.setMaximumPoolSize(2);
+        pool.setConnectionTimeout(500);
+        pool.setReadOnly(true);
+        pool.setInitializationFailTimeout(-1);
+        replicaDataSource = new ReplicaDataSource(primary.getPostgresDatabase(), List.of(pool),
+                Duration.ofSeconds(1), Duration.ofMillis(100), meterRegistry);
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        if (replicaDataSource != null) {
+            replicaDataSource.close();
+        }
+        if (standby != null) {
+            standby.close();
+        }
+        if (primary != null) {
+            primary.close();
+        }
+    }
+
+    @Test
+    void readsGoToTheReplicaWhileItStreams() throws SQLException {
+        awaitReplicaAvailable(true);
+        execute(primary.getPostgresDatabase(), "CREATE TABLE replicated (id int)");
+
+        await().atMost(TIMEOUT).until(() -> query(replicaDataSource,
+                "SELECT count(*) FROM pg_class WHERE relname = 'replicated'") == 1);
+        assertThat(readsFromStandby()).isTrue();
+        assertThat(fallbacks()).isZero();
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhenReplicationStops() throws SQLException {
+        awaitReplicaAvailable(true);
+
+        // The standby keeps serving, but its WAL receiver can no longer reach the primary
+        execute(standby.getPostgresDatabase(), "ALTER SYSTEM SET primary_conninfo = 'host=localhost port=1'");
+        query(standby.getPostgresDatabase(), "SELECT count(*) FROM pg_reload_conf()");
+
+        awaitReplicaAvailable(false);
+        assertThat(meterRegistry.get("datasource.replica.lag").gauge().value()).isNaN();
+        assertThat(readsFromStandby()).isFalse();
+        assertThat(fallbacks()).isEqualTo(1);
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhenTheReplicaIsDown() throws Exception {
+        awaitReplicaAvailable(true);
+
+        standby.close();
+        standby = null;
+
+        awaitReplicaAvailable(false);
+        assertThat(readsFromStandby()).isFalse();
+        assertThat(fallbacks()).isEqualTo(1);
+    }
+
+    private void awaitReplicaAvailable(boolean available) {
+        await().atMost(TIMEOUT).until(() ->
+                meterRegistry.get("datasource.replica.available").gauge().value() == (available ? 1 : 0));
+    }
+
+    private boolean readsFromStandby() throws SQLException {
+        return query(replicaDataSource, "SELECT CASE WHEN pg_is_in_recovery() THEN 1 ELSE 0 END") == 1;
+    }
+
+    private double fallbacks() {
+        return meterRegistry.get("datasource.replica.fallback").counter().count();
+    }
+
+    /**
+     * A low-level online backup: the primary keeps running while its files are copied, and the
+     * standby replays WAL from the backup's start, which it streams from the primary.
+     */
+    private void baseBackup(Path primaryDirectory, Path standbyDirectory) throws SQLException, IOException {
+        try (Connection connection = primary.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_start_backup('standby', true, false)");
+            copyDataDirectory(primaryDirectory, standbyDirectory);
+            try (ResultSet resultSet = statement.executeQuery("SELECT labelfile FROM pg_stop_backup(false)")) {
+                resultSet.next();
+                Files.writeString(standbyDirectory.resolve("backup_label"), resultSet.getString(1));
+            }
+        }
+    }
+
+    private static void copyDataDirectory(Path from, Path to) throws IOException {
+        Set<String> skipped = Set.of("postmaster.pid", "postmaster.opts");
+        try (Stream<Path> files = Files.walk(from)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Path relative = from.relativize(file);
+                Path target = to.resolve(relative);
+                if (Files.isDirectory(file)) {
+                    Files.createDirectories(target);
+                } else if (!skipped.contains(relative.toString()) && !relative.startsWith("pg_wal")) {
+                    try {
+                        Files.copy(file, target);
+                    } catch (NoSuchFileException e) {
+                        // Removed by the running primary while copying, e.g. a temporary stats file
+                    }
+                }
+            }
+        }
+        Files.setPosixFilePermissions(to, PosixFilePermissions.fromString("rwx------"));
+    }
+
+    private static void execute(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static long query(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.aura.staffmanager.controller;
+
+import com.aura.staffmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.aura.staffmanager.support.StatementCapture.capture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins how many SQL statements each list endpoint issues with a cold second-level cache, and
+ * checks the number stays the same when the rows behind it double. A lazy association loaded per
+ * row would add statements with every new employee or department.
+ */
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+@WithMockUser(roles = "ADMIN")
+class ListStatementCountTest extends PostgresIntegrationTest {
+
+    private static final Map<String, Integer> STATEMENTS = new LinkedHashMap<>();
+
+    // The endpoints answering with an ETag read the resource version first
+    static {
+        STATEMENTS.put("/api/employees", 2);
+        STATEMENTS.put("/api/employees?size=50", 2);
+        STATEMENTS.put("/api/departments", 2);
+        STATEMENTS.put("/api/leave-requests", 2);
+        STATEMENTS.put("/api/leave-requests/absences?from=2025-01-01&to=2025-12-31&status=PENDING", 1);
+        STATEMENTS.put("/api/salaries", 2);
+        STATEMENTS.put("/api/salaries/month/1/year/2025", 1);
+    }
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUpMockMvc() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    void listEndpointsIssueAFixedNumberOfStatements() {
+        Map<String, Integer> before = countStatements();
+        doubleTheData();
+        Map<String, Integer> after = countStatements();
+        assertThat(before).isEqualTo(STATEMENTS);
+        assertThat(after).isEqualTo(STATEMENTS);
+    }
+
+    private Map<String, Integer> countStatements() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String uri : STATEMENTS.keySet()) {
+            entityManagerFactory.getCache().evictAll();
+            List<String> statements = capture(() -> {
+                try {
+                    mockMvc.perform(get(uri)).andExpect(status().isOk()).andExpect(jsonPath("$").isNotEmpty());
+                } catch (Exception e) {
+                    throw new IllegalStateException(uri, e);
+                }
+            });
+            counts.put(uri, statements.size());
+        }
+        return counts;
+    }
+
+    /**
+     * Another 3 departments and 12 employees, each with the same salaries and leave as in
+     * test-data.sql.
+     */
+    private void doubleTheData() {
+        jdbcTemplate.execute("""
+                INSERT INTO departments (id, name, description)
+                SELECT d, 'Department ' || d, 'Test department ' || d FROM generate_series(4, 6) AS d;
+                INSERT INTO users (id, email, password, first_name, last_name, role)
+                SELECT e, 'employee' || e || '@test.local', 'not-a-password-hash', 'First' || e, 'Last' || e, 'EMPLOYEE'
+                FROM generate_series(13, 24) AS e;
+                INSERT INTO employees (id, first_name, last_name, email, phone, hire_date, department_id, position,
+                                       salary, address, status, user_id)
+                SELECT e, 'First' || e, 'Last' || e, 'employee' || e || '@test.local', '555-01' || e,
+                       DATE '2020-01-01' + e, 4 + e % 3, 'Engineer', 50000, e || ' Test Street', 'ACTIVE', e
+                FROM generate_series(13, 24) AS e;
+                INSERT INTO salaries (id, employee_id, base_salary, bonus, deductions, net_salary, month, year, status)
+                SELECT 100 + (m - 1) * 12 + e, e, 4000, 200, 800, 3400, make_date(2025, m, 1), 2025, 'PENDING'
+                FROM generate_series(13, 24) AS e, generate_series(1, 2) AS m;
+                INSERT INTO leave_requests (id, employee_id, start_date, end_date, type, status, reason, created_at, updated_at)
+                SELECT e, e, DATE '2025-03-03', DATE '2025-03-07', 'VACATION', 'PENDING', 'Holiday', now(), now()
+                FROM generate_series(13, 24) AS e;
+                """);
+    }
+}
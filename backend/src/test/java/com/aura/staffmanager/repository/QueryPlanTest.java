@@ -0,0 +1,174 @@
+package com.aura.staffmanager.repository;
+
+import com.aura.staffmanager.dto.employee.EmployeeSortKey;
+import com.aura.staffmanager.entity.LeaveStatus;
+import com.aura.staffmanager.service.EmployeeService;
+import com.aura.staffmanager.support.PostgresIntegrationTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.aura.staffmanager.support.StatementCapture.capture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the finders the list and lookup endpoints rely on are served by an index. Each
+ * finder runs while the SQL Hibernate generates for it is captured, and that statement is then
+ * explained with sequential scans disabled: the planner still picks one when no index
+ * fits, or else walks a whole index whose leading column the query does not constrain. Either
+ * means the finder has no index of its own, so every table access must be an index lookup on the
+ * index's leading column.
+ */
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class QueryPlanTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private SalaryRepository salaryRepository;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void salaryByEmployeeAndMonthUsesAnIndex() throws SQLException {
+        List<String> sql = capture(() -> salaryRepository.findByEmployeeIdAndMonth(1L, YearMonth.of(2025, 1)));
+        assertIndexLookups(sql, "1", "2025-01-01");
+    }
+
+    @Test
+    void salariesByMonthUseAnIndex() throws SQLException {
+        List<String> sql = capture(() -> salaryRepository.findByMonth(YearMonth.of(2025, 1)));
+        assertIndexLookups(sql, "2025-01-01");
+    }
+
+    @Test
+    void leaveRequestsByEmployeeAndStatusUseAnIndex() throws SQLException {
+        List<String> sql = capture(() -> leaveRequestRepository.findByEmployeeIdAndStatus(1L, LeaveStatus.PENDING));
+        assertIndexLookups(sql, "1", "PENDING");
+    }
+
+    @Test
+    void leaveRequestsByStatusUseAnIndex() throws SQLException {
+        List<String> sql = capture(() -> leaveRequestRepository.findByStatus(LeaveStatus.PENDING));
+        assertIndexLookups(sql, "PENDING");
+    }
+
+    @Test
+    void employeeByUserUsesAnIndex() throws SQLException {
+        List<String> sql = capture(() -> employeeRepository.findByUserId(1L));
+        assertIndexLookups(sql, "1");
+    }
+
+    @Test
+    void laterDirectoryPagesByLastNameStartAtTheCursor() throws SQLException {
+        // The first page ends at Last10 (id 10); its cursor bound appears three times, then the limit
+        String cursor = employeeService.getEmployeePage(null, 2, EmployeeSortKey.LAST_NAME, null, null).getNextCursor();
+        List<String> sql = capture(() -> employeeService.getEmployeePage(cursor, 2, EmployeeSortKey.LAST_NAME, null, null));
+        assertIndexLookups(sql, "Last10", "Last10", "Last10", "10", "3");
+    }
+
+    @Test
+    void laterDirectoryPagesByHireDateStartAtTheCursor() throws SQLException {
+        // The first page ends at the second hire, 2020-01-03 (id 2)
+        String cursor = employeeService.getEmployeePage(null, 2, EmployeeSortKey.HIRE_DATE, null, null).getNextCursor();
+        List<String> sql = capture(() -> employeeService.getEmployeePage(cursor, 2, EmployeeSortKey.HIRE_DATE, null, null));
+        assertIndexLookups(sql, "2020-01-03", "2020-01-03", "2020-01-03", "2", "3");
+    }
+
+    /**
+     * Explains the finder's main query with the given parameter values, which PostgreSQL casts
+     * to the parameter types it inferred when preparing the statement.
+     */
+    private void assertIndexLookups(List<String> statements, String... parameters) throws SQLException {
+        assertThat(statements).as("statements issued by the finder").isNotEmpty();
+        String sql = statements.get(0);
+        int placeholders = 0;
+        StringBuilder prepared = new StringBuilder();
+        for (char c : sql.toCharArray()) {
+            prepared.append(c == '?' ? "$" + ++placeholders : String.valueOf(c));
+        }
+        assertThat(placeholders).as("parameters of %s", sql).isEqualTo(parameters.length);
+
+        JsonNode plan;
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            statement.execute("PREPARE finder AS " + prepared);
+            try {
+                String values = Stream.of(parameters).map(value -> "'" + value + "'").collect(Collectors.joining(", "));
+                plan = explain(statement, "EXPLAIN (FORMAT JSON) EXECUTE finder(" + values + ")");
+            } finally {
+                statement.execute("DEALLOCATE finder");
+                statement.execute("RESET enable_seqscan");
+            }
+            List<String> fullScans = new ArrayList<>();
+            collectFullScans(connection, plan.get(0).get("Plan"), fullScans);
+            assertThat(fullScans).as("full scans in the plan of %s:%n%s", sql, plan.toPrettyString()).isEmpty();
+        }
+    }
+
+    private static JsonNode explain(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return new ObjectMapper().readTree(resultSet.getString(1));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void collectFullScans(Connection connection, JsonNode node, List<String> fullScans) throws SQLException {
+        String type = node.get("Node Type").asText();
+        if (type.equals("Seq Scan")) {
+            fullScans.add("Seq Scan on " + node.get("Relation Name").asText());
+        } else if (node.has("Index Name")) {
+            String index = node.get("Index Name").asText();
+            // An index condition on a later column only filters while the whole index is read, e.g.
+            // "((employee_id = '1'::bigint) AND (month = ...))" or "((status)::text = ...)"
+            String conditions = node.path("Index Cond").asText().replaceAll("[()]", "");
+            if (!Pattern.compile("(^| AND )" + leadingColumn(connection, index) + "(::| )").matcher(conditions).find()) {
+                fullScans.add(type + " using " + index);
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectFullScans(connection, child, fullScans);
+        }
+    }
+
+    private static String leadingColumn(Connection connection, String index) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT a.attname FROM pg_index i " +
+                "JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0] " +
+                "WHERE i.indexrelid = ?::regclass")) {
+            statement.setString(1, index);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
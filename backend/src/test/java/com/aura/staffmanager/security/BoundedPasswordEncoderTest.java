@@ -0,0 +1,159 @@
+package com.aura.staffmanager.security;
+
+import com.aura.staffmanager.controller.AuthController;
+import com.aura.staffmanager.dto.auth.RegisterRequest;
+import com.aura.staffmanager.entity.Role;
+import com.aura.staffmanager.entity.User;
+import com.aura.staffmanager.exception.TooManyRequestsException;
+import com.aura.staffmanager.repository.UserRepository;
+import com.aura.staffmanager.service.AuthService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoundedPasswordEncoderTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch hashing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    // One hashing thread and one queued hash: a third concurrent caller finds no room
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1));
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void shutDown() {
+        release.countDown();
+        callers.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void aFullQueueIsRejectedRightAway() throws Exception {
+        PasswordEncoder encoder = new BoundedPasswordEncoder(new BlockingEncoder(), executor, Duration.ofSeconds(10),
+                meterRegistry);
+        Future<String> running = callers.submit(() -> encoder.encode("first"));
+        assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> queued = callers.submit(() -> encoder.encode("second"));
+        while (executor.getQueue().isEmpty()) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> encoder.encode("third"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting(e -> ((TooManyRequestsException) e).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(1));
+        assertThat(rejected()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:second");
+        assertThat(rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void aHashThatTakesTooLongIsRejected() {
+        PasswordEncoder encoder = new BoundedPasswordEncoder(new BlockingEncoder(), executor, Duration.ofMillis(50),
+                meterRegistry);
+
+        assertThatThrownBy(() -> encoder.matches("password", "hash:password"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void aRejectionIsAnsweredWith429AndRetryAfter() {
+        PasswordEncoder encoder = new BoundedPasswordEncoder(new BlockingEncoder(), executor, Duration.ofMillis(50),
+                meterRegistry);
+        AuthController controller = new AuthController(mock(AuthService.class));
+
+        TooManyRequestsException rejection = catchRejection(() -> encoder.encode("password"));
+        ResponseEntity<String> response = controller.tooManyRequests(rejection);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    void registeringHashesThePasswordOnce() {
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.encode("secret")).thenReturn("hash:secret");
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        AuthService authService = new AuthService(userRepository,
+                new BoundedPasswordEncoder(delegate, executor, Duration.ofSeconds(10), meterRegistry),
+                mock(AuthenticationManager.class), mock(JwtTokenProvider.class));
+
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail("new@test.local");
+        request.setPassword("secret");
+        request.setFirstName("New");
+        request.setLastName("User");
+        request.setRole(Role.EMPLOYEE);
+        authService.register(request);
+
+        verify(delegate, times(1)).encode("secret");
+        verify(delegate, never()).matches(any(), any());
+    }
+
+    private double rejected() {
+        return meterRegistry.get("auth.password.hashing.rejected").counter().count();
+    }
+
+    private static TooManyRequestsException catchRejection(Runnable hashing) {
+        try {
+            hashing.run();
+        } catch (TooManyRequestsException e) {
+            return e;
+        }
+        throw new AssertionError("Expected the hash to be rejected");
+    }
+
+    /** Signals when a hash starts, then holds the hashing thread until the test releases it. */
+    private final class BlockingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            block();
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            block();
+            return encodedPassword.equals("hash:" + rawPassword);
+        }
+
+        private void block() {
+            hashing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
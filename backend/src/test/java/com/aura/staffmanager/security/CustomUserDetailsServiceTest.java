@@ -0,0 +1,60 @@
+package com.aura.staffmanager.security;
+
+import com.aura.staffmanager.entity.User;
+import com.aura.staffmanager.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CustomUserDetailsServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CustomUserDetailsService userDetailsService = new CustomUserDetailsService(userRepository,
+            new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
+    @Test
+    void cachedUsersAreNotReloaded() {
+        when(userRepository.findByEmail("old@test.local")).thenReturn(Optional.of(user(1L, "old@test.local")));
+
+        userDetailsService.loadUserByUsername("old@test.local");
+        userDetailsService.loadUserByUsername("old@test.local");
+
+        verify(userRepository, times(1)).findByEmail("old@test.local");
+    }
+
+    @Test
+    void evictingAUserWithANewEmailDropsTheEntryUnderTheOldOne() {
+        when(userRepository.findByEmail("old@test.local")).thenReturn(Optional.of(user(1L, "old@test.local")));
+        userDetailsService.loadUserByUsername("old@test.local");
+
+        userDetailsService.evict(user(1L, "new@test.local"));
+        userDetailsService.loadUserByUsername("old@test.local");
+
+        verify(userRepository, times(2)).findByEmail("old@test.local");
+    }
+
+    @Test
+    void evictingAnotherUserKeepsTheEntry() {
+        when(userRepository.findByEmail("old@test.local")).thenReturn(Optional.of(user(1L, "old@test.local")));
+        userDetailsService.loadUserByUsername("old@test.local");
+
+        userDetailsService.evict(user(2L, "other@test.local"));
+        userDetailsService.loadUserByUsername("old@test.local");
+
+        verify(userRepository, times(1)).findByEmail("old@test.local");
+    }
+
+    private static User user(Long id, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        return user;
+    }
+}
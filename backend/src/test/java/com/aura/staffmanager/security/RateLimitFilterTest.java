@@ -0,0 +1,65 @@
+package com.aura.staffmanager.security;
+
+import com.aura.staffmanager.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final RateLimitFilter filter = new RateLimitFilter(properties(), new SimpleMeterRegistry());
+
+    @Test
+    void aRefusedRequestGets429WithRetryAfterInWholeSeconds() throws Exception {
+        assertThat(login("10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(login("10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+
+        MockHttpServletResponse refused = login("10.0.0.1");
+        assertThat(refused.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        // The next token is due just under 30 seconds from now, rounded up
+        assertThat(refused.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+    }
+
+    @Test
+    void anonymousClientsAreLimitedPerAddress() throws Exception {
+        login("10.0.0.1");
+        login("10.0.0.1");
+
+        assertThat(login("10.0.0.2").getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void otherPathsAreNotLimited() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertThat(request("GET", "/api/employees", "10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+    }
+
+    private MockHttpServletResponse login(String remoteAddr) throws Exception {
+        return request("POST", "/api/auth/login", remoteAddr);
+    }
+
+    private MockHttpServletResponse request(String method, String path, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        // Path matchers look at the servlet path, as they do behind the DispatcherServlet
+        request.setServletPath(path);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static RateLimitProperties properties() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getGroups().put("auth", RateLimitGroupTest.group(2, Duration.ofMinutes(1)));
+        return properties;
+    }
+}
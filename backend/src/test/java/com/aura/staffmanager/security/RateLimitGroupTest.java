@@ -0,0 +1,91 @@
+package com.aura.staffmanager.security;
+
+import com.aura.staffmanager.config.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitGroupTest {
+
+    private static final long INTERVAL_NANOS = Duration.ofSeconds(12).toNanos();
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 5 requests a minute: a full bucket holds 5 and one token comes back every 12 seconds
+    private final RateLimitGroup group = new RateLimitGroup("test", group(5, Duration.ofMinutes(1)), 100,
+            meterRegistry, clock::get);
+
+    @Test
+    void aFullBucketAllowsABurstOfItsCapacity() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(group.tryAcquire("client")).isZero();
+        }
+        assertThat(group.tryAcquire("client")).isEqualTo(INTERVAL_NANOS);
+        assertThat(meterRegistry.get("rate.limit.rejected").tag("group", "test").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void tokensComeBackOneIntervalAtATime() {
+        drain("client");
+
+        advance(Duration.ofSeconds(5));
+        assertThat(group.tryAcquire("client")).isEqualTo(INTERVAL_NANOS - Duration.ofSeconds(5).toNanos());
+
+        advance(Duration.ofSeconds(7));
+        assertThat(group.tryAcquire("client")).isZero();
+        assertThat(group.tryAcquire("client")).isEqualTo(INTERVAL_NANOS);
+    }
+
+    @Test
+    void anIdleBucketRefillsToCapacityButNoFurther() {
+        drain("client");
+
+        advance(Duration.ofHours(1));
+        for (int i = 0; i < 5; i++) {
+            assertThat(group.tryAcquire("client")).isZero();
+        }
+        assertThat(group.tryAcquire("client")).isPositive();
+    }
+
+    @Test
+    void clientsHaveTheirOwnBuckets() {
+        drain("client");
+
+        assertThat(group.tryAcquire("other")).isZero();
+    }
+
+    @Test
+    void refusedRequestsTakeNoToken() {
+        drain("client");
+        for (int i = 0; i < 10; i++) {
+            assertThat(group.tryAcquire("client")).isEqualTo(INTERVAL_NANOS);
+        }
+
+        advance(Duration.ofSeconds(12));
+        assertThat(group.tryAcquire("client")).isZero();
+    }
+
+    private void drain(String client) {
+        while (group.tryAcquire(client) == 0) {
+            // take every token in the bucket
+        }
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    static RateLimitProperties.Group group(int capacity, Duration period) {
+        RateLimitProperties.Group group = new RateLimitProperties.Group();
+        group.setPaths(List.of("/api/auth/login"));
+        group.setCapacity(capacity);
+        group.setPeriod(period);
+        return group;
+    }
+}
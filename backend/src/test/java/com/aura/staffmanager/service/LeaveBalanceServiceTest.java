@@ -0,0 +1,167 @@
+package com.aura.staffmanager.service;
+
+import com.aura.staffmanager.entity.Employee;
+import com.aura.staffmanager.entity.LeaveBalance;
+import com.aura.staffmanager.entity.LeaveRequest;
+import com.aura.staffmanager.entity.LeaveStatus;
+import com.aura.staffmanager.entity.LeaveType;
+import com.aura.staffmanager.repository.EmployeeRepository;
+import com.aura.staffmanager.repository.LeaveBalanceRepository;
+import com.aura.staffmanager.repository.LeaveRequestRepository;
+import com.aura.staffmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class LeaveBalanceServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private LeaveBalanceService leaveBalanceService;
+
+    @Autowired
+    private LeaveBalanceRepository leaveBalanceRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Autowired
+    private WorkingDayCalculator workingDayCalculator;
+
+    @Test
+    void concurrentFirstChangesToABalanceAllCount() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int year = 2030; year < 2040; year++) {
+                LeaveRequest leave = approved(LocalDate.of(year, 3, 4), LocalDate.of(year, 3, 8));
+                CyclicBarrier start = new CyclicBarrier(threads);
+                List<Future<Void>> changes = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    changes.add(executor.submit((Callable<Void>) () -> {
+                        start.await();
+                        leaveBalanceService.onLeaveRequestChanged(1L, LeaveStatus.PENDING, null, null, null, leave);
+                        return null;
+                    }));
+                }
+                for (Future<Void> change : changes) {
+                    // A lost race to create the balance would surface here as a unique-key violation
+                    change.get();
+                }
+
+                int days = workingDayCalculator.workingDaysInYear(leave.getStartDate(), leave.getEndDate(), year);
+                assertThat(usedDays(1L, LeaveType.VACATION, year)).isEqualTo(threads * days);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void settingAnEntitlementKeepsConcurrentlyUsedDays() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int year = 2040; year < 2050; year++) {
+                LeaveRequest leave = approved(LocalDate.of(year, 3, 5), LocalDate.of(year, 3, 9));
+                CyclicBarrier start = new CyclicBarrier(threads);
+                List<Future<Void>> changes = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    boolean setsEntitlement = i % 2 == 0;
+                    int changeYear = year;
+                    changes.add(executor.submit((Callable<Void>) () -> {
+                        start.await();
+                        if (setsEntitlement) {
+                            leaveBalanceService.setEntitlement(1L, LeaveType.VACATION, changeYear, 30);
+                        } else {
+                            leaveBalanceService.onLeaveRequestChanged(1L, LeaveStatus.PENDING, null, null, null, leave);
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<Void> change : changes) {
+                    change.get();
+                }
+
+                int days = workingDayCalculator.workingDaysInYear(leave.getStartDate(), leave.getEndDate(), year);
+                LeaveBalance balance = leaveBalanceRepository
+                        .findByEmployeeIdAndTypeAndYear(1L, LeaveType.VACATION, year).orElseThrow();
+                assertThat(balance.getEntitledDays()).isEqualTo(30);
+                assertThat(balance.getUsedDays()).isEqualTo(threads / 2 * days);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void revokingAnApprovalGivesTheDaysBack() {
+        LeaveRequest leave = approved(LocalDate.of(2031, 12, 29), LocalDate.of(2032, 1, 2));
+        leaveBalanceService.onLeaveRequestChanged(2L, LeaveStatus.PENDING, null, null, null, leave);
+        assertThat(usedDays(2L, LeaveType.VACATION, 2031)).isPositive();
+        assertThat(usedDays(2L, LeaveType.VACATION, 2032)).isPositive();
+
+        LeaveRequest rejected = approved(leave.getStartDate(), leave.getEndDate());
+        rejected.setStatus(LeaveStatus.REJECTED);
+        leaveBalanceService.onLeaveRequestChanged(2L, LeaveStatus.APPROVED, LeaveType.VACATION,
+                leave.getStartDate(), leave.getEndDate(), rejected);
+
+        assertThat(usedDays(2L, LeaveType.VACATION, 2031)).isZero();
+        assertThat(usedDays(2L, LeaveType.VACATION, 2032)).isZero();
+    }
+
+    @Test
+    void balanceUpdatesLeaveOtherCachedEntitiesAlone() {
+        Employee employee = employeeRepository.findById(3L).orElseThrow();
+        assertThat(entityManagerFactory.getCache().contains(Employee.class, employee.getId())).isTrue();
+
+        leaveBalanceService.onLeaveRequestChanged(3L, LeaveStatus.PENDING, null, null, null,
+                approved(LocalDate.of(2033, 5, 2), LocalDate.of(2033, 5, 6)));
+
+        assertThat(entityManagerFactory.getCache().contains(Employee.class, employee.getId())).isTrue();
+    }
+
+    @Test
+    void rebuildRecountsFromTheApprovedHistory() {
+        LeaveRequest stored = leaveRequestRepository.findById(4L).orElseThrow();
+        stored.setStatus(LeaveStatus.APPROVED);
+        leaveRequestRepository.save(stored);
+        // A counter that no approved request backs
+        leaveBalanceService.onLeaveRequestChanged(5L, LeaveStatus.PENDING, null, null, null,
+                approved(LocalDate.of(2025, 6, 2), LocalDate.of(2025, 6, 6)));
+
+        leaveBalanceService.rebuild();
+
+        assertThat(usedDays(4L, LeaveType.VACATION, 2025)).isEqualTo(5);
+        assertThat(usedDays(5L, LeaveType.VACATION, 2025)).isZero();
+    }
+
+    private int usedDays(Long employeeId, LeaveType type, int year) {
+        return leaveBalanceRepository.findByEmployeeIdAndTypeAndYear(employeeId, type, year)
+                .map(LeaveBalance::getUsedDays)
+                .orElse(0);
+    }
+
+    private static LeaveRequest approved(LocalDate start, LocalDate end) {
+        LeaveRequest leave = new LeaveRequest();
+        leave.setType(LeaveType.VACATION);
+        leave.setStatus(LeaveStatus.APPROVED);
+        leave.setStartDate(start);
+        leave.setEndDate(end);
+        return leave;
+    }
+}
@@ -0,0 +1,91 @@
+package com.aura.staffmanager.service;
+
+import com.aura.staffmanager.dto.leave.LeaveDecisionOutcome;
+import com.aura.staffmanager.dto.leave.LeaveDecisionRequest;
+import com.aura.staffmanager.dto.leave.LeaveDecisionResponse;
+import com.aura.staffmanager.dto.leave.LeaveDecisionResult;
+import com.aura.staffmanager.entity.LeaveBalance;
+import com.aura.staffmanager.entity.LeaveRequest;
+import com.aura.staffmanager.entity.LeaveStatus;
+import com.aura.staffmanager.entity.LeaveType;
+import com.aura.staffmanager.repository.LeaveBalanceRepository;
+import com.aura.staffmanager.repository.LeaveRequestRepository;
+import com.aura.staffmanager.support.PostgresIntegrationTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_CLASS)
+class LeaveDecisionServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private LeaveDecisionService leaveDecisionService;
+
+    @Autowired
+    private LeaveBalanceRepository leaveBalanceRepository;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Test
+    void aChunkWritesItsBalancesWithOneStatement() {
+        long single = statementsToApprove(1L);
+        long several = statementsToApprove(2L, 5L, 8L, 11L);
+
+        assertThat(several).isEqualTo(single);
+        for (long employeeId : List.of(1L, 2L, 5L, 8L, 11L)) {
+            assertThat(leaveBalanceRepository.findByEmployeeIdAndTypeAndYear(employeeId, LeaveType.VACATION, 2025))
+                    .map(LeaveBalance::getUsedDays)
+                    .contains(5);
+        }
+    }
+
+    @Test
+    void rejectionsLeaveBalancesAlone() {
+        LeaveDecisionRequest request = decision(LeaveStatus.REJECTED, 3L);
+
+        assertThat(leaveDecisionService.decide(request).getDecided()).isEqualTo(1);
+        assertThat(leaveBalanceRepository.findByEmployeeIdAndYear(3L, 2025)).isEmpty();
+    }
+
+    @Test
+    void aCommentThatDoesNotFitSkipsOnlyItsRequest() {
+        LeaveRequest wordy = leaveRequestRepository.findById(6L).orElseThrow();
+        wordy.setReason("x".repeat(100));
+        leaveRequestRepository.save(wordy);
+        LeaveDecisionRequest request = decision(LeaveStatus.APPROVED, 4L, 6L);
+        request.setComment("y".repeat(200));
+
+        LeaveDecisionResponse response = leaveDecisionService.decide(request);
+
+        assertThat(response.getOutcomes())
+                .extracting(LeaveDecisionOutcome::getId, LeaveDecisionOutcome::getResult)
+                .containsExactly(tuple(4L, LeaveDecisionResult.DECIDED), tuple(6L, LeaveDecisionResult.REASON_TOO_LONG));
+        assertThat(leaveRequestRepository.findById(6L).orElseThrow().getStatus()).isEqualTo(LeaveStatus.PENDING);
+    }
+
+    private long statementsToApprove(Long... ids) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assertThat(leaveDecisionService.decide(decision(LeaveStatus.APPROVED, ids)).getDecided()).isEqualTo(ids.length);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static LeaveDecisionRequest decision(LeaveStatus status, Long... ids) {
+        LeaveDecisionRequest request = new LeaveDecisionRequest();
+        request.setStatus(status);
+        request.setItems(List.of(ids).stream().map(id -> {
+            LeaveDecisionRequest.Item item = new LeaveDecisionRequest.Item();
+            item.setId(id);
+            return item;
+        }).toList());
+        return request;
+    }
+}
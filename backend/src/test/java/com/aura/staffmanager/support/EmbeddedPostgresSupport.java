@@ -0,0 +1,50 @@
+package com.aura.staffmanager.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Support for tests that run against an embedded PostgreSQL. As a JUnit extension it skips them
+ * when running as root, which PostgreSQL refuses and which is common in containers. Conditions
+ * are evaluated before any other callback, so no application context or server is started for a
+ * skipped class.
+ */
+public final class EmbeddedPostgresSupport implements ExecutionCondition {
+
+    private static EmbeddedPostgres shared;
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        return "root".equals(System.getProperty("user.name"))
+                ? ConditionEvaluationResult.disabled("PostgreSQL does not run as root")
+                : ConditionEvaluationResult.enabled("Not running as root");
+    }
+
+    /**
+     * One server for every Spring test in the JVM, so cached application contexts keep a live
+     * database. Stopped when the JVM exits.
+     */
+    public static synchronized EmbeddedPostgres shared() {
+        if (shared == null) {
+            try {
+                EmbeddedPostgres postgres = EmbeddedPostgres.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    try {
+                        postgres.close();
+                    } catch (IOException e) {
+                        // The JVM is exiting; the data directory is temporary anyway
+                    }
+                }));
+                shared = postgres;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start the embedded PostgreSQL", e);
+            }
+        }
+        return shared;
+    }
+}
@@ -0,0 +1,40 @@
+package com.aura.staffmanager.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Base for tests that boot the whole application against the shared embedded PostgreSQL, with
+ * the schema from the Flyway migrations. Subclasses share one cached application context as long
+ * as they add no configuration of their own.
+ */
+@SpringBootTest(properties = "rate-limit.enabled=false")
+@ExtendWith(EmbeddedPostgresSupport.class)
+@Import(StatementCapture.class)
+public abstract class PostgresIntegrationTest {
+
+    @Autowired
+    protected EntityManagerFactory entityManagerFactory;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> EmbeddedPostgresSupport.shared().getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    /**
+     * Test data scripts rewrite tables behind Hibernate's back, so nothing cached by an earlier
+     * test class may be trusted.
+     */
+    @BeforeEach
+    void evictSecondLevelCache() {
+        entityManagerFactory.getCache().evictAll();
+    }
+}
@@ -0,0 +1,57 @@
+package com.aura.staffmanager.support;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL Hibernate prepares on the current thread during {@link #capture(Runnable)}.
+ * Imported by {@link PostgresIntegrationTest}, so every integration test shares the one
+ * application context.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class StatementCapture {
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    public static List<String> capture(Runnable action) {
+        CAPTURED.set(new ArrayList<>());
+        try {
+            action.run();
+            return CAPTURED.get();
+        } finally {
+            CAPTURED.remove();
+        }
+    }
+
+    /**
+     * Wraps whatever statement inspector the application configured, after every Hibernate
+     * properties customizer has run.
+     */
+    @Bean
+    static BeanPostProcessor capturingStatementInspector() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean factory) {
+                    StatementInspector configured = (StatementInspector) factory.getJpaPropertyMap()
+                            .get(AvailableSettings.STATEMENT_INSPECTOR);
+                    factory.getJpaPropertyMap().put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                        List<String> captured = CAPTURED.get();
+                        if (captured != null) {
+                            captured.add(sql);
+                        }
+                        return configured != null ? configured.inspect(sql) : sql;
+                    });
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,25 @@
+-- A small org for the integration tests: 3 departments, 12 employees with user accounts, two
+-- months of salaries and one pending leave request each. Rerunnable.
+TRUNCATE leave_balances, leave_requests, salaries, employees, users, departments RESTART IDENTITY CASCADE;
+
+INSERT INTO departments (id, name, description)
+SELECT d, 'Department ' || d, 'Test department ' || d
+FROM generate_series(1, 3) AS d;
+
+INSERT INTO users (id, email, password, first_name, last_name, role)
+SELECT e, 'employee' || e || '@test.local', 'not-a-password-hash', 'First' || e, 'Last' || e, 'EMPLOYEE'
+FROM generate_series(1, 12) AS e;
+
+INSERT INTO employees (id, first_name, last_name, email, phone, hire_date, department_id, position, salary,
+                       address, status, user_id)
+SELECT e, 'First' || e, 'Last' || e, 'employee' || e || '@test.local', '555-01' || lpad(e::text, 2, '0'),
+       DATE '2020-01-01' + e, 1 + e % 3, 'Engineer', 50000, e || ' Test Street', 'ACTIVE', e
+FROM generate_series(1, 12) AS e;
+
+INSERT INTO salaries (id, employee_id, base_salary, bonus, deductions, net_salary, month, year, status)
+SELECT (m - 1) * 12 + e, e, 4000, 200, 800, 3400, make_date(2025, m, 1), 2025, 'PENDING'
+FROM generate_series(1, 12) AS e, generate_series(1, 2) AS m;
+
+INSERT INTO leave_requests (id, employee_id, start_date, end_date, type, status, reason, created_at, updated_at)
+SELECT e, e, DATE '2025-03-03', DATE '2025-03-07', 'VACATION', 'PENDING', 'Holiday', now(), now()
+FROM generate_series(1, 12) AS e;
@@ -31,12 +31,49 @@ export interface CreateEmployeeRequest {
 
 export interface UpdateEmployeeRequest extends CreateEmployeeRequest {}
 
+export type EmployeeSortKey = 'ID' | 'LAST_NAME' | 'HIRE_DATE';
+
+export interface EmployeePageParams {
+    size: number;
+    cursor?: string;
+    sort?: EmployeeSortKey;
+    departmentId?: number;
+    status?: 'ACTIVE' | 'INACTIVE';
+}
+
+export interface EmployeeSearchResult {
+    id: number;
+    firstName: string;
+    lastName: string;
+    email: string;
+    position: string;
+    departmentId: number;
+    departmentName: string;
+    score: number;
+}
+
+export interface EmployeePage {
+    items: Employee[];
+    nextCursor: string | null;
+    hasMore: boolean;
+}
+
 const EmployeeService = {
     getAll: async (): Promise<Employee[]> => {
         const response = await api.get<Employee[]>('/employees');
         return response.data;
     },
 
+    getPage: async (params: EmployeePageParams): Promise<EmployeePage> => {
+        const response = await api.get<EmployeePage>('/employees', { params });
+        return response.data;
+    },
+
+    search: async (q: string, limit = 10): Promise<EmployeeSearchResult[]> => {
+        const response = await api.get<EmployeeSearchResult[]>('/employees/search', { params: { q, limit } });
+        return response.data;
+    },
+
     getById: async (id: number): Promise<Employee> => {
         const response = await api.get<Employee>(`/employees/${id}`);
         return response.data;
@@ -36,6 +36,32 @@ export interface UpdateSalaryRequest {
   comments?: string;
 }
 
+export type PayrollReportDimension = "DEPARTMENT" | "MONTH" | "STATUS";
+
+export interface PayrollReportParams {
+  groupBy?: PayrollReportDimension[];
+  from?: string; // Format: "YYYY-MM"
+  to?: string; // Format: "YYYY-MM"
+  departmentId?: number;
+  status?: "PAID" | "PENDING" | "PROCESSING";
+}
+
+export interface PayrollReportRow {
+  departmentId: number | null;
+  departmentName: string | null;
+  month: string | null;
+  status: "PAID" | "PENDING" | "PROCESSING" | null;
+  count: number;
+  totalBaseSalary: number;
+  totalBonus: number;
+  totalDeductions: number;
+  totalNetSalary: number;
+  averageBaseSalary: number;
+  averageBonus: number;
+  averageDeductions: number;
+  averageNetSalary: number;
+}
+
 class SalaryService {
   private readonly BASE_URL = "/salaries";
 
@@ -72,6 +98,13 @@ class SalaryService {
     const response = await api.get<Salary[]>(`${this.BASE_URL}/month/${month}/year/${year}`);
     return response.data;
   }
+
+  async getPayrollReport(params: PayrollReportParams = {}): Promise<PayrollReportRow[]> {
+    const response = await api.get<PayrollReportRow[]>("/reports/payroll", {
+      params: { ...params, groupBy: params.groupBy?.join(",") },
+    });
+    return response.data;
+  }
 }
 
 export default new SalaryService(); 
\ No newline at end of file